@@ -0,0 +1,549 @@
+package codehumane.jooq.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * `@JooqMapped(table = ...)` Pojo마다 `{Pojo}_JooqMapper`(codehumane.jooq.GeneratedJooqMapper 구현체)를 생성<br/>
+ * 생성된 코드는 reflection 없이 테이블 Record의 타입이 있는 getter/setter와 Pojo의 필드(또는 접근자, 생성자)를 직접 호출한다.
+ * <ul>
+ * <li>Pojo 필드와 Record 접근자는 런타임 변환기와 같은 기준(camel case 토큰 ↔ underscore 토큰)으로 짝짓는다.</li>
+ * <li>타입이 같으면 그대로 할당하고, code 타입이 컬럼 타입과 같은 Encodable enum은 EncodableCodeTable/getCode로 변환한다.</li>
+ * <li>그 외의 타입 쌍은 런타임의 기본 변환기(GeneratedJooqMappers.convert)에 위임한다.</li>
+ * </ul>
+ * 생성된 클래스는 Pojo와 같은 패키지에 만들어지므로, private이 아닌 필드는 직접 접근하고 private 필드는 접근자(getX/setX)를 사용한다.
+ * Pojo를 만들 때는 private이 아닌 기본 생성자를, 없으면 유일한 private이 아닌 생성자를 파라미터 이름으로 짝지어 호출한다.
+ * 다른 annotation processor가 만드는 멤버(lombok의 getter/setter 등)는 보이지 않을 수 있으므로 접근할 수 없는 필드는 컴파일 오류로 알린다.
+ */
+@SupportedAnnotationTypes(JooqMappedProcessor.JOOQ_MAPPED)
+public class JooqMappedProcessor extends AbstractProcessor {
+
+    static final String JOOQ_MAPPED = "codehumane.jooq.JooqMapped";
+    static final String SUFFIX = "_JooqMapper";
+
+    private static final String TABLE = "org.jooq.Table";
+    private static final String ENCODABLE = "codehumane.common.Encodable";
+    private static final String CODE_TABLE = "codehumane.common.EncodableCodeTable";
+    private static final String GENERATED_MAPPER = "codehumane.jooq.GeneratedJooqMapper";
+    private static final String GENERATED_MAPPERS = "codehumane.jooq.GeneratedJooqMappers";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    error(element, "@JooqMapped is only applicable to classes.");
+                    continue;
+                }
+
+                try {
+                    generate((TypeElement) element);
+                } catch (MappingException e) {
+                    error(e.element, e.getMessage());
+                } catch (IOException e) {
+                    error(element, "Mapper generation failed: " + e.getMessage());
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private void generate(TypeElement pojo) throws IOException {
+        if (pojo.getModifiers().contains(Modifier.PRIVATE) || pojo.getModifiers().contains(Modifier.ABSTRACT))
+            throw new MappingException(pojo, "@JooqMapped class must be non-private and concrete.");
+
+        final DeclaredType recordType = recordTypeOf(tableOf(pojo), pojo);
+        final Map<String, ExecutableElement> recordGetters = new HashMap<>();
+        final Map<String, ExecutableElement> recordSetters = new HashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(recordType.asElement().getEnclosedElements())) {
+            final String name = method.getSimpleName().toString();
+            if (!method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)
+                    || name.length() <= 3)
+                continue;
+
+            final String key = normalize(name.substring(3));
+            if (key == null)
+                continue;
+
+            if (name.startsWith("get") && method.getParameters().isEmpty()
+                    && method.getReturnType().getKind() != TypeKind.VOID) {
+                recordGetters.put(key, method);
+            } else if (name.startsWith("set") && method.getParameters().size() == 1) {
+                recordSetters.put(key, method);
+            }
+        }
+
+        final String packageName = packageOf(pojo).getQualifiedName().toString();
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(pojo).toString();
+        final String simpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+                .replace('$', '_') + SUFFIX;
+
+        final Source source = new Source(pojo, recordType);
+        final ExecutableElement constructor = constructorOf(pojo);
+        final Set<String> parameterKeys = new HashSet<>();
+        final List<String> arguments = new ArrayList<>();
+        final StringBuilder create = new StringBuilder();
+        for (VariableElement parameter : constructor.getParameters()) {
+            final String key = normalize(parameter.getSimpleName().toString());
+            final ExecutableElement getter = key == null ? null : recordGetters.get(key);
+            final String argument = "a" + arguments.size();
+            arguments.add(argument);
+            if (getter == null) {
+                create.append(String.format("        final %s %s = %s;%n",
+                        parameter.asType(), argument, defaultValueOf(parameter.asType())));
+                continue;
+            }
+
+            parameterKeys.add(key);
+            create.append(String.format("        final %s %s = record.%s() == null ? %s : %s;%n",
+                    parameter.asType(), argument, getter.getSimpleName(), defaultValueOf(parameter.asType()),
+                    source.readExpression("record." + getter.getSimpleName() + "()",
+                            getter.getReturnType(), parameter.asType())));
+        }
+        create.append(String.format("        final %s destination = new %s(%s);%n",
+                pojo.getQualifiedName(), pojo.getQualifiedName(), String.join(", ", arguments)));
+        if (arguments.isEmpty())
+            create.append(String.format("        map(record, destination);%n"));
+
+        final StringBuilder assign = new StringBuilder();
+        final StringBuilder unmap = new StringBuilder();
+        for (VariableElement field : fieldsOf(pojo).values()) {
+            final String key = normalize(field.getSimpleName().toString());
+            final ExecutableElement getter = key == null ? null : recordGetters.get(key);
+            final ExecutableElement setter = key == null ? null : recordSetters.get(key);
+
+            if (getter != null && !field.getModifiers().contains(Modifier.FINAL)) {
+                final String statement = String.format(
+                        "        {%n"
+                                + "            final %s value = record.%s();%n"
+                                + "            if (value != null)%n"
+                                + "                %s;%n"
+                                + "        }%n",
+                        getter.getReturnType(), getter.getSimpleName(),
+                        source.writeTo(field, source.readExpression("value", getter.getReturnType(), field.asType())));
+                assign.append(statement);
+                if (!arguments.isEmpty() && !parameterKeys.contains(key))
+                    create.append(statement);
+            }
+
+            if (setter != null) {
+                final TypeMirror columnType = setter.getParameters().get(0).asType();
+                final String value = source.readFrom(field);
+                final String converted = source.writeExpression("value", field.asType(), columnType);
+                unmap.append(String.format(
+                        "        {%n"
+                                + "            final %s value = %s;%n"
+                                + "            record.%s(%s);%n"
+                                + "        }%n",
+                        field.asType(), value, setter.getSimpleName(),
+                        field.asType().getKind().isPrimitive() || converted.equals("value")
+                                ? converted
+                                : "value == null ? null : " + converted));
+            }
+        }
+
+        final String pojoName = pojo.getQualifiedName().toString();
+        final String recordName = recordType.toString();
+        try (Writer writer = processingEnv.getFiler()
+                .createSourceFile(packageName.isEmpty() ? simpleName : packageName + "." + simpleName, pojo)
+                .openWriter()) {
+
+            if (!packageName.isEmpty())
+                writer.write("package " + packageName + ";\n\n");
+
+            writer.write("@" + generatedAnnotation() + "(\"" + JooqMappedProcessor.class.getName() + "\")\n");
+            writer.write("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+            writer.write("public final class " + simpleName
+                    + " implements " + GENERATED_MAPPER + "<" + pojoName + ", " + recordName + "> {\n\n");
+            writer.write(source.constants.toString());
+            writer.write("\n    @Override\n");
+            writer.write("    public Class<" + recordName + "> getRecordType() {\n");
+            writer.write("        return " + processingEnv.getTypeUtils().erasure(recordType) + ".class;\n");
+            writer.write("    }\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public " + pojoName + " map(" + recordName + " record) {\n");
+            writer.write(create.toString());
+            writer.write("        return destination;\n");
+            writer.write("    }\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public void map(" + recordName + " record, " + pojoName + " destination) {\n");
+            writer.write(assign.toString());
+            writer.write("    }\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public void unmap(" + pojoName + " source, " + recordName + " record) {\n");
+            writer.write(unmap.toString());
+            writer.write("    }\n");
+            writer.write("}\n");
+        }
+    }
+
+    // Java 9부터는 javax.annotation.Generated가 기본 모듈에 없음
+    private String generatedAnnotation() {
+        return processingEnv.getElementUtils().getTypeElement("javax.annotation.Generated") != null
+                ? "javax.annotation.Generated"
+                : "javax.annotation.processing.Generated";
+    }
+
+    private TypeElement tableOf(TypeElement pojo) {
+        for (AnnotationMirror mirror : pojo.getAnnotationMirrors()) {
+            final TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            if (!annotation.getQualifiedName().contentEquals(JOOQ_MAPPED))
+                continue;
+
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : mirror.getElementValues().entrySet()) {
+
+                if (entry.getKey().getSimpleName().contentEquals("table")
+                        && entry.getValue().getValue() instanceof DeclaredType)
+                    return (TypeElement) ((DeclaredType) entry.getValue().getValue()).asElement();
+            }
+        }
+
+        throw new MappingException(pojo, "@JooqMapped table not resolvable.");
+    }
+
+    // Table<R>의 R (코드 생성된 테이블은 TableImpl<R>을 상속)
+    private DeclaredType recordTypeOf(TypeElement table, TypeElement pojo) {
+        final DeclaredType tableType = supertypeOf(table.asType(), TABLE);
+        if (tableType == null || tableType.getTypeArguments().size() != 1
+                || tableType.getTypeArguments().get(0).getKind() != TypeKind.DECLARED)
+            throw new MappingException(pojo, "Record type of table not resolvable: " + table.getQualifiedName());
+
+        return (DeclaredType) tableType.getTypeArguments().get(0);
+    }
+
+    private DeclaredType supertypeOf(TypeMirror type, String qualifiedName) {
+        final Deque<TypeMirror> queue = new ArrayDeque<>(Collections.singleton(type));
+        while (!queue.isEmpty()) {
+            final TypeMirror current = queue.poll();
+            if (current.getKind() == TypeKind.DECLARED) {
+                final TypeElement element = (TypeElement) ((DeclaredType) current).asElement();
+                if (element.getQualifiedName().contentEquals(qualifiedName))
+                    return (DeclaredType) current;
+            }
+
+            queue.addAll(processingEnv.getTypeUtils().directSupertypes(current));
+        }
+
+        return null;
+    }
+
+    // private이 아닌 기본 생성자, 없으면 유일한 private이 아닌 생성자
+    private ExecutableElement constructorOf(TypeElement pojo) {
+        final List<ExecutableElement> candidates = new ArrayList<>();
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(pojo.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PRIVATE))
+                continue;
+
+            if (constructor.getParameters().isEmpty())
+                return constructor;
+
+            candidates.add(constructor);
+        }
+
+        if (candidates.size() != 1)
+            throw new MappingException(pojo, "@JooqMapped class needs a non-private default constructor "
+                    + "or exactly one non-private constructor.");
+
+        return candidates.get(0);
+    }
+
+    // 부모 클래스를 포함한 static이 아닌 필드 (같은 이름이면 하위 클래스의 필드)
+    private Map<String, VariableElement> fieldsOf(TypeElement pojo) {
+        final Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        for (TypeElement current = pojo; current != null; current = superclassOf(current)) {
+            hierarchy.push(current);
+        }
+
+        final Map<String, VariableElement> fields = new LinkedHashMap<>();
+        for (TypeElement type : hierarchy) {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC))
+                    continue;
+
+                fields.remove(field.getSimpleName().toString());
+                fields.put(field.getSimpleName().toString(), field);
+            }
+        }
+
+        return fields;
+    }
+
+    private TypeElement superclassOf(TypeElement type) {
+        final TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED)
+            return null;
+
+        final TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    private PackageElement packageOf(Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element);
+    }
+
+    private static String defaultValueOf(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "false";
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return "(" + type + ") 0";
+            default:
+                return "null";
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * Java Pojo 형태(camel case)의 이름을 key로 정규화 (런타임의 JooqFieldTokenMatcher.normalizePojoName과 같은 기준)
+     *
+     * @param name camel case 이름
+     * @return 정규화된 key (`_`가 포함되어 매칭될 수 없는 이름이면 null)
+     */
+    static String normalize(String name) {
+        final StringBuilder key = new StringBuilder(name.length() + 4);
+
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (c == '_')
+                return null;
+
+            if (isBoundary(name, i))
+                key.append('_');
+
+            key.append(Character.toLowerCase(c));
+        }
+
+        return key.toString();
+    }
+
+    private static boolean isBoundary(String name, int i) {
+        if (i <= 0 || i >= name.length())
+            return false;
+
+        final char previous = name.charAt(i - 1);
+        final char current = name.charAt(i);
+
+        if (isUpper(previous) && isUpper(current) && i + 1 < name.length()) {
+            final char next = name.charAt(i + 1);
+            if (isLower(next) || isDigit(next))
+                return true;
+        }
+
+        if (!isUpper(previous) && isUpper(current))
+            return true;
+
+        return isAlphanumeric(previous) && !isAlphanumeric(current);
+    }
+
+    private static boolean isUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isLower(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isUpper(c) || isLower(c) || isDigit(c);
+    }
+
+
+    /**
+     * Pojo 하나에 대한 코드 조각 생성 (Encodable 변환표 상수는 enum 타입마다 하나씩 선언)
+     */
+    private class Source {
+
+        private final TypeElement pojo;
+        private final DeclaredType recordType;
+        private final Map<String, String> codeTables = new HashMap<>();
+        private final StringBuilder constants = new StringBuilder();
+
+        private Source(TypeElement pojo, DeclaredType recordType) {
+            this.pojo = pojo;
+            this.recordType = recordType;
+        }
+
+        // 컬럼 값(from 타입) → Pojo 필드/파라미터 값(to 타입)
+        private String readExpression(String value, TypeMirror from, TypeMirror to) {
+            if (isAssignable(from, to))
+                return value;
+
+            final TypeMirror codeType = codeTypeOf(to);
+            if (codeType != null && isSameType(codeType, from))
+                return codeTableOf(to) + ".decode(" + value + ")";
+
+            return convert(value, to);
+        }
+
+        // Pojo 필드 값(from 타입) → 컬럼 값(to 타입)
+        private String writeExpression(String value, TypeMirror from, TypeMirror to) {
+            if (isAssignable(from, to))
+                return value;
+
+            final TypeMirror codeType = codeTypeOf(from);
+            if (codeType != null && isSameType(codeType, to))
+                return value + ".getCode()";
+
+            return convert(value, to);
+        }
+
+        private String convert(String value, TypeMirror to) {
+            final String boxed = processingEnv.getTypeUtils().erasure(boxed(to)).toString();
+            // convert는 주어진 Class의 타입으로 반환하므로 cast하지 않음
+            return GENERATED_MAPPERS + ".convert(" + value + ", " + boxed + ".class)";
+        }
+
+        private String writeTo(VariableElement field, String expression) {
+            if (isAccessible(field))
+                return "destination." + field.getSimpleName() + " = " + expression;
+
+            final ExecutableElement setter = accessorOf(field, "set", 1);
+            if (setter == null)
+                throw new MappingException(field, "Field not accessible from generated mapper. "
+                        + "Make it non-private or declare a setter.");
+
+            return "destination." + setter.getSimpleName() + "(" + expression + ")";
+        }
+
+        private String readFrom(VariableElement field) {
+            if (isAccessible(field))
+                return "source." + field.getSimpleName();
+
+            ExecutableElement getter = accessorOf(field, "get", 0);
+            if (getter == null && field.asType().getKind() == TypeKind.BOOLEAN)
+                getter = accessorOf(field, "is", 0);
+            if (getter == null)
+                throw new MappingException(field, "Field not accessible from generated mapper. "
+                        + "Make it non-private or declare a getter.");
+
+            return "source." + getter.getSimpleName() + "()";
+        }
+
+        private ExecutableElement accessorOf(VariableElement field, String prefix, int parameterCount) {
+            final String name = field.getSimpleName().toString();
+            final String accessorName = prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            for (ExecutableElement method
+                    : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(pojo))) {
+
+                if (method.getSimpleName().contentEquals(accessorName)
+                        && method.getParameters().size() == parameterCount
+                        && isAccessible(method))
+                    return method;
+            }
+
+            return null;
+        }
+
+        // 생성된 클래스는 Pojo와 같은 패키지에 있으므로 private이 아니면서, 같은 패키지이거나 public이면 접근 가능
+        private boolean isAccessible(Element member) {
+            if (member.getModifiers().contains(Modifier.PRIVATE))
+                return false;
+
+            return member.getModifiers().contains(Modifier.PUBLIC)
+                    || packageOf(member).equals(packageOf(pojo));
+        }
+
+        private String codeTableOf(TypeMirror encodableType) {
+            final String typeName = processingEnv.getTypeUtils().erasure(encodableType).toString();
+            return codeTables.computeIfAbsent(typeName, name -> {
+                final String constant = "CODE_TABLE_" + codeTables.size();
+                constants.append(String.format(
+                        "    private static final %s<%s> %s = %s.of(%s.class);%n",
+                        CODE_TABLE, name, constant, CODE_TABLE, name));
+                return constant;
+            });
+        }
+
+        // Encodable<T>를 구현한 enum이면 T, 아니면 null
+        private TypeMirror codeTypeOf(TypeMirror type) {
+            if (type.getKind() != TypeKind.DECLARED
+                    || ((DeclaredType) type).asElement().getKind() != ElementKind.ENUM)
+                return null;
+
+            final DeclaredType encodable = supertypeOf(type, ENCODABLE);
+            return encodable == null || encodable.getTypeArguments().size() != 1
+                    ? null
+                    : encodable.getTypeArguments().get(0);
+        }
+
+        private boolean isAssignable(TypeMirror from, TypeMirror to) {
+            return processingEnv.getTypeUtils().isAssignable(from, to)
+                    || processingEnv.getTypeUtils().isAssignable(boxed(from), boxed(to));
+        }
+
+        private boolean isSameType(TypeMirror a, TypeMirror b) {
+            return processingEnv.getTypeUtils().isSameType(boxed(a), boxed(b));
+        }
+
+        private TypeMirror boxed(TypeMirror type) {
+            return type.getKind().isPrimitive()
+                    ? processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).asType()
+                    : type;
+        }
+    }
+
+
+    /**
+     * 생성할 수 없는 Pojo (해당 요소에 컴파일 오류로 보고)
+     */
+    private static class MappingException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Element element;
+
+        private MappingException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
@@ -4,6 +4,10 @@ import java.util.Arrays;
 
 public interface Encodable<T> {
 
+    /**
+     * 주어진 상수 배열에서 code에 해당하는 상수를 선형 탐색으로 찾는다.
+     * 클래스의 모든 상수를 대상으로 한다면 {@link #codeOf(Class, Object)}를 사용.
+     */
     static <T, E extends Enum<E> & Encodable<T>> E codeOf(E[] encodables, T code) {
 
         return Arrays
@@ -12,5 +16,12 @@ public interface Encodable<T> {
                 .orElse(null);
     }
 
+    /**
+     * code에 해당하는 상수를 클래스별로 미리 만들어 둔 {@link EncodableCodeTable}에서 찾는다.
+     */
+    static <T, E extends Enum<E> & Encodable<T>> E codeOf(Class<E> encodableType, T code) {
+        return EncodableCodeTable.of(encodableType).decode(code);
+    }
+
     T getCode();
 }
\ No newline at end of file
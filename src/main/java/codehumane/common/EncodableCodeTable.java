@@ -0,0 +1,135 @@
+package codehumane.common;
+
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link Encodable} enum 클래스 하나에 대한 code → 상수 조회표<br/>
+ * 클래스마다 한 번만 만들어지며, 이후의 조회는 상수 배열 복제나 선형 탐색 없이 수행된다.
+ * code가 좁은 범위의 정수(Byte, Short, Integer)인 경우에는 해시 조회 대신 배열 조회를 사용한다.
+ *
+ * @param <E> Encodable 구현체의 타입
+ */
+public final class EncodableCodeTable<E extends Enum<E> & Encodable<?>> {
+
+    private static final int MAX_DENSE_RANGE = 256;
+
+    private static final ClassValue<EncodableCodeTable<?>> tables = new ClassValue<EncodableCodeTable<?>>() {
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EncodableCodeTable<?> computeValue(Class<?> encodableType) {
+            return new EncodableCodeTable(encodableType);
+        }
+    };
+
+    private final Class<?> codeType;
+    private final Map<Object, E> byCode;
+    private final E[] denseByCode; // 정수 code가 아니거나 범위가 넓으면 null
+    private final int denseOffset;
+
+    @SuppressWarnings("unchecked")
+    private EncodableCodeTable(Class<E> encodableType) {
+        final E[] constants = encodableType.getEnumConstants();
+
+        this.codeType = constants.length > 0 && constants[0].getCode() != null
+                ? constants[0].getCode().getClass()
+                : null;
+
+        // 같은 code가 여러 번 나오면 선형 탐색과 마찬가지로 먼저 선언된 상수를 사용
+        this.byCode = new HashMap<>();
+        for (E constant : constants) {
+            if (constant.getCode() != null)
+                byCode.putIfAbsent(constant.getCode(), constant);
+        }
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (Object code : byCode.keySet()) {
+            if (!isDenseCode(code)) {
+                min = Integer.MAX_VALUE;
+                break;
+            }
+
+            min = Math.min(min, ((Number) code).intValue());
+            max = Math.max(max, ((Number) code).intValue());
+        }
+
+        if (min == Integer.MAX_VALUE || (long) max - min >= MAX_DENSE_RANGE) {
+            this.denseByCode = null;
+            this.denseOffset = 0;
+            return;
+        }
+
+        this.denseByCode = (E[]) Array.newInstance(encodableType, max - min + 1);
+        this.denseOffset = min;
+        for (Map.Entry<Object, E> entry : byCode.entrySet()) {
+            denseByCode[((Number) entry.getKey()).intValue() - min] = entry.getValue();
+        }
+    }
+
+    private boolean isDenseCode(Object code) {
+        return code.getClass() == codeType
+                && (codeType == Byte.class || codeType == Short.class || codeType == Integer.class);
+    }
+
+    /**
+     * Encodable enum 클래스의 조회표 반환
+     *
+     * @param encodableType Encodable enum 클래스
+     * @param <E>           Encodable 구현체의 타입
+     * @return 조회표
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E> & Encodable<?>> EncodableCodeTable<E> of(Class<E> encodableType) {
+        return (EncodableCodeTable<E>) tables.get(encodableType);
+    }
+
+    /**
+     * 제네릭 타입 정보가 없는 클래스(리플렉션으로 얻은 필드 타입 등)로 조회표 반환
+     *
+     * @param encodableType Encodable enum 클래스
+     * @return 조회표
+     * @throws IllegalArgumentException Encodable enum 클래스가 아닌 경우
+     */
+    public static EncodableCodeTable<?> ofType(Class<?> encodableType) {
+        if (!isEncodableEnum(encodableType))
+            throw new IllegalArgumentException("Not an Encodable enum: " + encodableType);
+
+        return tables.get(encodableType);
+    }
+
+    /**
+     * @param type 클래스
+     * @return Encodable을 구현한 enum 클래스인지 여부
+     */
+    public static boolean isEncodableEnum(Class<?> type) {
+        return type.isEnum() && Encodable.class.isAssignableFrom(type);
+    }
+
+    /**
+     * @return 상수들의 code 타입 (상수가 없으면 null)
+     */
+    public Class<?> getCodeType() {
+        return codeType;
+    }
+
+    /**
+     * code에 해당하는 상수 반환 (code의 타입까지 일치해야 하며, 없으면 null)
+     *
+     * @param code code 값
+     * @return 상수
+     */
+    public E decode(Object code) {
+        if (code == null)
+            return null;
+
+        if (denseByCode != null && code.getClass() == codeType) {
+            final int index = ((Number) code).intValue() - denseOffset;
+            return index >= 0 && index < denseByCode.length ? denseByCode[index] : null;
+        }
+
+        return byCode.get(code);
+    }
+}
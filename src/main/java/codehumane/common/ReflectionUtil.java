@@ -4,9 +4,14 @@ import org.springframework.classify.util.MethodInvoker;
 import org.springframework.classify.util.MethodInvokerUtils;
 import org.springframework.util.ClassUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -16,6 +21,25 @@ import java.util.List;
  */
 public class ReflectionUtil {
 
+    private static final MethodType OBJECT_SETTER_TYPE =
+            MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType OBJECT_GETTER_TYPE =
+            MethodType.methodType(Object.class, Object.class);
+    private static final MethodType OBJECT_FACTORY_TYPE =
+            MethodType.methodType(Object.class, Object[].class);
+    private static final MethodHandle FIELD_SET;
+    private static final MethodHandle FIELD_GET;
+
+    static {
+        // Field#set, Field#get은 caller-sensitive 메소드이므로 publicLookup으로는 찾을 수 없음 (호출자를 이 클래스로 고정)
+        try {
+            FIELD_SET = MethodHandles.lookup().findVirtual(Field.class, "set", OBJECT_SETTER_TYPE);
+            FIELD_GET = MethodHandles.lookup().findVirtual(Field.class, "get", OBJECT_GETTER_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     /**
      * 클래스의 모든 필드를 부모를 포함하여 모두 가져온다.
      *
@@ -64,6 +88,16 @@ public class ReflectionUtil {
         return ClassUtils.isAssignable(target, valueType);
     }
 
+    /**
+     * 타입의 기본값 반환 (필드나 배열 원소가 초기화되지 않았을 때의 값)
+     *
+     * @param type 타입
+     * @return primitive 타입이면 0 또는 false의 wrapper, 그 외에는 null
+     */
+    public static Object defaultValueOf(Class<?> type) {
+        return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+
     /**
      * 디폴트 생성자를 활용하여 인스턴스화
      *
@@ -79,9 +113,23 @@ public class ReflectionUtil {
             throws NoSuchMethodException, InstantiationException, IllegalAccessException,
             InvocationTargetException {
 
+        return getDefaultConstructor(destinationType).newInstance();
+    }
+
+    /**
+     * 접근 가능한 상태의 디폴트 생성자 반환 (여러 인스턴스를 만들 때 한 번만 조회하기 위한 용도)
+     *
+     * @param destinationType 클래스
+     * @param <D>             타입
+     * @return 디폴트 생성자
+     * @throws NoSuchMethodException 기본 생성자 없는 경우
+     */
+    public static <D> Constructor<D> getDefaultConstructor(Class<D> destinationType)
+            throws NoSuchMethodException {
+
         final Constructor<D> constructor = destinationType.getDeclaredConstructor(); // 기본 생성자 사용
         constructor.setAccessible(true); // 접근자가 public이 아닌 경우 대응
-        return constructor.newInstance();
+        return constructor;
     }
 
     /**
@@ -111,4 +159,82 @@ public class ReflectionUtil {
         field.setAccessible(true);
         return field.get(object);
     }
+
+    /**
+     * 필드에 값을 할당하는 {@link MethodHandle}을 생성한다.<br/>
+     * 반환되는 핸들의 타입은 `(Object, Object)void`로 고정되어 있어 `invokeExact`로 호출할 수 있으며,
+     * primitive 타입 필드에 대해서는 wrapper 값의 unboxing까지 수행한다.<br/>
+     * 매번 `setAccessible`과 접근 검사를 거치는 {@link #setField(Object, Field, Object)}와 달리, 한 번 만들어 재사용하는 용도.
+     *
+     * @param field 필드
+     * @return `(Object, Object)void` 타입의 setter 핸들
+     * @throws IllegalAccessException
+     */
+    public static MethodHandle setterHandle(Field field) throws IllegalAccessException {
+        return setterHandle(field, Object.class);
+    }
+
+    /**
+     * {@link #setterHandle(Field)}와 같으나, 할당할 값의 타입을 지정한 `(Object, valueType)void` 타입의 핸들을 생성한다.<br/>
+     * 예를 들어 long 필드에 대해 valueType이 `long`이면 boxing 없이 할당하며, Long 필드라면 할당 시점에 한 번만 boxing한다.
+     *
+     * @param field     필드
+     * @param valueType 할당할 값의 타입 (primitive 타입 가능)
+     * @return `(Object, valueType)void` 타입의 setter 핸들
+     * @throws IllegalAccessException
+     */
+    public static MethodHandle setterHandle(Field field, Class<?> valueType) throws IllegalAccessException {
+        field.setAccessible(true);
+
+        final MethodHandle setter;
+        if (Modifier.isFinal(field.getModifiers()) || Modifier.isStatic(field.getModifiers())) {
+            // final 필드는 unreflectSetter로 접근할 수 없고, static 필드는 시그니처가 다르므로 Field#set에 위임
+            setter = FIELD_SET.bindTo(field);
+        } else {
+            setter = MethodHandles.lookup().unreflectSetter(field);
+        }
+
+        return setter.asType(OBJECT_SETTER_TYPE.changeParameterType(1, valueType));
+    }
+
+    /**
+     * 필드 값을 읽는 {@link MethodHandle}을 생성한다.<br/>
+     * 반환되는 핸들의 타입은 `(Object)Object`로 고정되어 있어 `invokeExact`로 호출할 수 있으며,
+     * primitive 타입 필드의 값은 wrapper로 boxing된다. ({@link #setterHandle(Field)}와 짝을 이루는 용도)
+     *
+     * @param field 필드
+     * @return `(Object)Object` 타입의 getter 핸들
+     * @throws IllegalAccessException
+     */
+    public static MethodHandle getterHandle(Field field) throws IllegalAccessException {
+        field.setAccessible(true);
+
+        final MethodHandle getter;
+        if (Modifier.isStatic(field.getModifiers())) {
+            // static 필드는 시그니처에 소유 객체가 없으므로 Field#get에 위임
+            getter = FIELD_GET.bindTo(field);
+        } else {
+            getter = MethodHandles.lookup().unreflectGetter(field);
+        }
+
+        return getter.asType(OBJECT_GETTER_TYPE);
+    }
+
+    /**
+     * 생성자를 호출하는 {@link MethodHandle}을 생성한다.<br/>
+     * 반환되는 핸들의 타입은 `(Object[])Object`로 고정되어 있어 `invokeExact`로 호출할 수 있으며,
+     * 배열의 원소를 생성자 파라미터에 순서대로 전달한다. (primitive 파라미터에는 wrapper 값을 unboxing하여 전달)
+     *
+     * @param constructor 생성자
+     * @return `(Object[])Object` 타입의 생성자 핸들
+     * @throws IllegalAccessException
+     */
+    public static MethodHandle constructorHandle(Constructor<?> constructor) throws IllegalAccessException {
+        constructor.setAccessible(true);
+
+        return MethodHandles.lookup()
+                .unreflectConstructor(constructor)
+                .asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(OBJECT_FACTORY_TYPE);
+    }
 }
@@ -22,6 +22,6 @@ public enum YNBoolean implements Encodable<String> {
     }
 
     public static YNBoolean codeOf(String code) {
-        return Encodable.codeOf(values(), code);
+        return Encodable.codeOf(YNBoolean.class, code);
     }
 }
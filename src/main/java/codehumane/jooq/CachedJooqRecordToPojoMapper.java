@@ -1,22 +1,37 @@
 package codehumane.jooq;
 
-import codehumane.common.Encodable;
-import codehumane.common.ReflectionUtil;
-import lombok.EqualsAndHashCode;
+import codehumane.common.Identifiable;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.jooq.EnumType;
+import org.jooq.Cursor;
 import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * {@link Record}를 Pojo 클래스로 변환 (자세한 내용과 쓰임은 JooqRecordToPojoMapperTest 참고)
@@ -24,254 +39,740 @@ import java.util.stream.Stream;
 @Slf4j
 public class CachedJooqRecordToPojoMapper implements JooqRecordToPojoMapper {
 
-    private static final Set<FieldMapper> fieldMappers = new LinkedHashSet<>();
-    private static final FieldMappingCache fieldMappingCache = new FieldMappingCache();
+    private final FieldMappers fieldMappers;
+    private final FieldMappingCache fieldMappingCache; // 계획이 FieldMappers를 참조하므로 인스턴스마다 보관
 
-    static {
-        fieldMappers.add(new EncodableFieldMapper<>()); // 순서 중요
-        fieldMappers.add(new DefaultFieldMapper());
+    // 목적지 클래스마다 ResultSet 컬럼 구성별 계획을 보관 (ClassValue이므로 목적지 클래스를 붙잡지 않음)
+    private final ClassValue<ConcurrentMap<String, ResultSetMappingPlan>> resultSetPlans =
+            new ClassValue<ConcurrentMap<String, ResultSetMappingPlan>>() {
+
+                @Override
+                protected ConcurrentMap<String, ResultSetMappingPlan> computeValue(Class<?> destinationType) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    public CachedJooqRecordToPojoMapper() {
+        this(FieldMappers.defaults());
     }
 
-    public <D, R extends Record> D map(R source, Class<D> destinationType) {
-        final D destination = instantiateDestination(destinationType);
-        return map(source, destination);
+    /**
+     * @param fieldMappers 값 변환에 사용할 {@link FieldMapper} 목록 (사용자 정의 변환기 포함)
+     */
+    public CachedJooqRecordToPojoMapper(FieldMappers fieldMappers) {
+        this(fieldMappers, FieldMappingCache.DEFAULT_MAXIMUM_SIZE);
     }
 
-    private <D> D instantiateDestination(Class<D> destinationType) {
+    /**
+     * @param fieldMappers     값 변환에 사용할 {@link FieldMapper} 목록 (사용자 정의 변환기 포함)
+     * @param maximumCacheSize 보관할 변환 계획의 최대 개수 (Record 형태와 목적지 클래스 쌍마다 하나)
+     */
+    public CachedJooqRecordToPojoMapper(FieldMappers fieldMappers, int maximumCacheSize) {
+        this.fieldMappers = fieldMappers;
+        this.fieldMappingCache = new FieldMappingCache(maximumCacheSize);
+    }
 
-        try {
-            return ReflectionUtil.constructByDefault(destinationType);
-        } catch (InstantiationException | IllegalAccessException
-                | InvocationTargetException e) {
-            throw new JooqRecordMappingException("Failed instantiation", e);
-        } catch (NoSuchMethodException e) {
-            throw new JooqRecordMappingException("Failed instantiation - No default constructor.", e);
-        }
+    /**
+     * @return 변환 계획 캐시의 적중, 실패, 제거 횟수와 현재 크기
+     */
+    public CacheStats getCacheStats() {
+        return fieldMappingCache.stats();
+    }
+
+    public <D, R extends Record> D map(R source, Class<D> destinationType) {
+        return destinationType.cast(getPlan(source, destinationType).create(source));
     }
 
     public <D, R extends Record> D map(R source, D destination) {
-        val sourceFields = source.fields();
-        if (sourceFields == null || sourceFields.length < 1) {
-            log.warn("No fields on source({}).", source.getClass());
-            return destination;
-        }
+        return getPlan(source, destination.getClass()).map(source, destination);
+    }
 
-        val destinationFields = ReflectionUtil.getAllFields(destination.getClass());
-        if (destinationFields.isEmpty()) {
-            log.warn("No fields on destination({}).", destination.getClass());
-            return destination;
-        }
+    public <D, R extends Record> List<D> mapAll(Result<R> sources, Class<D> destinationType) {
+        final List<D> destinations = new ArrayList<>(sources.size());
+        if (sources.isEmpty())
+            return destinations;
 
-        val mappings = getMappings(source, destination, sourceFields, destinationFields);
-        mappings.forEach(fieldMapping -> mapField(source, destination, fieldMapping));
+        // 한 Result의 Record들은 필드 구성이 같으므로 계획은 한 번만 조회
+        final RecordMappingPlan plan = getPlan(sources.get(0), destinationType);
+        for (R source : sources) {
+            destinations.add(destinationType.cast(plan.create(source)));
+        }
 
-        return destination;
+        return destinations;
     }
 
-    private <R extends Record, D> Set<FieldMapping> getMappings(R source,
-                                                                D destination,
-                                                                org.jooq.Field<?>[] sourceFields,
-                                                                List<Field> destinationFields) {
+    public <D, R extends Record> List<D> mapAll(Result<R> sources, Class<D> destinationType, ForkJoinPool pool) {
+        if (sources.isEmpty())
+            return new ArrayList<>();
 
-        val key = FieldMappingCache.Key.of(source, destination.getClass());
-        val cached = fieldMappingCache.get(key);
+        // 계획은 불변이고 Step의 FieldMapper 캐시도 불변 객체 교체 방식이므로 작업자 스레드 사이에 그대로 공유
+        final RecordMappingPlan plan = getPlan(sources.get(0), destinationType);
+        return ParallelRecordMapping.mapAll(
+                sources, source -> destinationType.cast(plan.create(source)), pool);
+    }
 
-        return cached.orElseGet(() -> {
-            final Set<FieldMapping> generated = generateMappings(sourceFields, destinationFields);
-            fieldMappingCache.put(key, generated);
-            log.debug("mapping cached. key: {}", key);
-            return generated;
-        });
+    public <D, R extends Record> Stream<D> stream(Cursor<R> cursor, Class<D> destinationType) {
+        return CursorStreams.of(cursor).map(mappingFunction(destinationType));
+    }
+
+    /**
+     * {@link #stream(Cursor, Class)}와 같으나, 행마다 객체를 새로 만들지 않고 하나의 객체에 현재 행의 값을 덮어써서 내보낸다.<br/>
+     * 원소를 하나씩 소비하고 버리는 대량 스트리밍(집계, 파일 쓰기 등)에서 행마다의 객체 생성을 없애기 위한 용도.
+     * 스트림의 원소는 다음 원소를 요청하는 순간 값이 바뀌므로, 원소를 보관하거나 collect, sorted 등 여러 원소를 모으는 연산에 사용하지 않는다.
+     *
+     * @param cursor          JOOQ Cursor
+     * @param destinationType 변환 결과 타입 클래스
+     * @param <R>             JOOQ Record 구현체
+     * @param <D>             변환 결과 타입
+     * @return 같은 객체를 반복해서 내보내는 순차 스트림
+     * @see #streamReusing(Cursor, Class, int)
+     */
+    public <D, R extends Record> Stream<D> streamReusing(Cursor<R> cursor, Class<D> destinationType) {
+        return streamReusing(cursor, destinationType, 1);
     }
 
-    private Set<FieldMapping> generateMappings(org.jooq.Field<?>[] sourceFields,
-                                               List<Field> destinationFields) {
+    /**
+     * {@link #streamReusing(Cursor, Class)}와 같으나, ringSize개의 객체를 돌아가며 재사용한다.<br/>
+     * 직전 몇 개의 원소를 함께 참조해야 하는 경우(이전 행과의 비교 등), 원소는 ringSize - 1개의 원소를 더 요청할 때까지 값이 유지된다.
+     * 현재 행에서 값이 null인 필드는 기본값(primitive는 0 또는 false, 그 외는 null)으로 되돌리므로 이전 행의 값이 남지 않는다.
+     *
+     * @param cursor          JOOQ Cursor
+     * @param destinationType 변환 결과 타입 클래스
+     * @param ringSize        돌아가며 재사용할 객체 수
+     * @param <R>             JOOQ Record 구현체
+     * @param <D>             변환 결과 타입
+     * @return ringSize개의 객체를 돌아가며 내보내는 순차 스트림
+     */
+    public <D, R extends Record> Stream<D> streamReusing(Cursor<R> cursor, Class<D> destinationType, int ringSize) {
+        if (ringSize < 1)
+            throw new IllegalArgumentException("ringSize must be positive: " + ringSize);
 
-        val mappings = new HashSet<FieldMapping>();
+        return CursorStreams.of(cursor).map(reusingFunction(destinationType, ringSize));
+    }
 
-        destinationFields
-                .forEach(d -> Stream
-                        .of(sourceFields)
-                        .filter(s -> JooqFieldTokenMatcher.match(s, d))
-                        .map(s -> new FieldMapping(s, d))
-                        .forEach(mappings::add));
+    /**
+     * Result를 행마다의 객체 대신 Pojo 필드마다 하나의 배열(long[], int[], double[], Encodable의 ordinal 등)로 모아 반환<br/>
+     * 몇 개의 숫자 컬럼만 집계하는 대량 조회에서 행 객체를 만들지 않기 위한 용도. (자세한 내용은 {@link JooqColumns} 참고)
+     *
+     * @param records JOOQ Result
+     * @param type    열 구성을 정하는 Pojo 타입 (이름이 매칭되는 필드만 열이 됨)
+     * @param <R>     JOOQ Record 구현체
+     * @param <D>     열 구성을 정하는 Pojo 타입
+     * @return 열 단위 결과
+     */
+    public <D, R extends Record> JooqColumns<D> mapColumns(Result<R> records, Class<D> type) {
+        final JooqColumns<D> columns = new JooqColumns<>(type, records.fields(), fieldMappers, records.size());
+        for (R record : records) {
+            columns.add(record);
+        }
 
-        return mappings;
+        columns.trim();
+        return columns;
     }
 
-    private <D, R extends Record> void mapField(R source, D destination, FieldMapping fieldMapping) {
-        val sourceValue = source.get(fieldMapping.getSource());
-        if (Objects.isNull(sourceValue))
-            return;
+    /**
+     * {@link #mapColumns(Result, Class)}와 같으나, Cursor를 끝까지 순회하며 열에 추가 (Cursor는 순회 후 닫음)<br/>
+     * 행 수를 미리 알 수 없으므로 배열은 필요할 때마다 늘리고, 마지막에 행 수에 맞게 줄인다.
+     *
+     * @param cursor JOOQ Cursor
+     * @param type   열 구성을 정하는 Pojo 타입 (이름이 매칭되는 필드만 열이 됨)
+     * @param <R>    JOOQ Record 구현체
+     * @param <D>    열 구성을 정하는 Pojo 타입
+     * @return 열 단위 결과
+     */
+    public <D, R extends Record> JooqColumns<D> mapColumns(Cursor<R> cursor, Class<D> type) {
+        try {
+            final JooqColumns<D> columns = new JooqColumns<>(type, cursor.fields(), fieldMappers, 0);
+            for (R record : cursor) {
+                columns.add(record);
+            }
 
-        val fieldMapper = getFieldMapper(fieldMapping, sourceValue);
-        fieldMapper.set(sourceValue, destination, fieldMapping.getTarget());
+            columns.trim();
+            return columns;
+        } finally {
+            cursor.close();
+        }
     }
 
-    private FieldMapper getFieldMapper(FieldMapping fieldMapping, Object value) {
-        final Predicate<FieldMapper> matching = m -> m.match(value, fieldMapping.getTarget());
-        final Supplier<JooqRecordMappingException> throwing = () ->
-                new JooqRecordMappingException(String.format(
-                        "임시 예외 반환: Name matched but type not matched. [%s]",
-                        fieldMapping.getTarget().getName()
-                ));
+    /**
+     * jOOQ Record를 만들지 않고 ResultSet의 남은 행을 모두 주어진 타입의 객체로 변환<br/>
+     * 컬럼 값은 타입이 있는 getter로 읽어 바로 할당하므로 행마다 Record와 boxing된 값이 만들어지지 않는다. (자세한 내용은 ResultSetMappingPlan 참고)
+     * ResultSet은 닫지 않는다.
+     *
+     * @param resultSet       JDBC ResultSet
+     * @param destinationType 변환 결과 타입 클래스
+     * @param <D>             변환 결과 타입
+     * @return 행 순서를 유지한 변환 결과 목록
+     */
+    public <D> List<D> mapAll(ResultSet resultSet, Class<D> destinationType) {
+        try {
+            final ResultSetMappingPlan plan = getPlan(resultSet.getMetaData(), destinationType);
+            final List<D> destinations = new ArrayList<>();
+            while (resultSet.next()) {
+                destinations.add(destinationType.cast(plan.create(resultSet)));
+            }
 
-        return fieldMappers
-                .stream()
-                .filter(matching)
-                .findFirst()
-                .orElseThrow(throwing);
+            return destinations;
+        } catch (SQLException e) {
+            throw new JooqRecordMappingException("ResultSet read failed.", e);
+        }
     }
 
+    /**
+     * 쿼리를 {@link ResultQuery#fetchResultSet()}로 실행하여 {@link #mapAll(ResultSet, Class)}로 변환 (ResultSet은 변환 후 닫음)
+     *
+     * @param query           JOOQ 쿼리
+     * @param destinationType 변환 결과 타입 클래스
+     * @param <D>             변환 결과 타입
+     * @return 행 순서를 유지한 변환 결과 목록
+     */
+    public <D> List<D> fetch(ResultQuery<?> query, Class<D> destinationType) {
+        try (ResultSet resultSet = query.fetchResultSet()) {
+            return mapAll(resultSet, destinationType);
+        } catch (SQLException e) {
+            throw new JooqRecordMappingException("ResultSet close failed.", e);
+        }
+    }
+
+    /**
+     * {@link #mapAll(ResultSet, Class)}와 같으나, 원소가 요청될 때마다 ResultSet에서 한 행씩 읽어 변환하는 스트림 반환<br/>
+     * 스트림을 닫으면 ResultSet도 닫히므로 try-with-resources와 함께 사용한다. (쿼리의 fetch size와 함께 대량 조회에 사용)
+     *
+     * @param resultSet       JDBC ResultSet (예: {@link ResultQuery#fetchResultSet()}의 결과)
+     * @param destinationType 변환 결과 타입 클래스
+     * @param <D>             변환 결과 타입
+     * @return 변환 결과의 순차 스트림
+     */
+    public <D> Stream<D> stream(ResultSet resultSet, Class<D> destinationType) {
+        try {
+            return CursorStreams.of(resultSet, getPlan(resultSet.getMetaData(), destinationType), destinationType);
+        } catch (SQLException e) {
+            throw new JooqRecordMappingException("ResultSet read failed.", e);
+        }
+    }
 
     /**
-     * {@link Record} {@link org.jooq.Field}의 값을 Pojo 필드에 할당하기 위한 변환 모듈
+     * 1:N join 결과를 부모 객체와 자식 컬렉션으로 묶어 변환<br/>
+     * 부모 id 값으로 행을 색인하므로 부모는 한 번만 생성되고, 각 행의 자식만 컬렉션 필드에 추가된다. (행의 정렬 여부와 무관)
+     * 자식 클래스 이름과 같은 테이블(또는 alias)의 필드와 컬렉션 필드 이름을 접두어로 가진 필드는 자식에, 나머지 필드는 부모에 할당한다.
+     * 예시) `List<LineItem> lineItems` → line_item 테이블의 필드 또는 line_items_name 형태의 필드
+     *
+     * @param records           JOOQ Result (1:N join 결과)
+     * @param parentType        부모 타입 클래스
+     * @param childrenFieldName 자식을 담을 컬렉션 필드 이름 (List, Set, Collection 타입)
+     * @param <R>               JOOQ Record 구현체
+     * @param <P>               부모 타입
+     * @return 부모 id가 처음 나타난 순서대로의 부모 목록
      */
-    interface FieldMapper {
+    public <P extends Identifiable<?>, R extends Record> List<P> mapAllGrouped(
+            Result<R> records, Class<P> parentType, String childrenFieldName) {
 
-        /**
-         * {@link Record} {@link org.jooq.Field}의 값이 목적지 필드에 할당될 수 있는지 여부 검사
-         *
-         * @param sourceValue {@link Record} {@link org.jooq.Field}의 값
-         * @param destination 목적지 필드
-         * @return 매칭 여부
-         */
-        boolean match(Object sourceValue, Field destination);
+        if (records.isEmpty())
+            return new ArrayList<>();
+
+        final OneToManyMappingPlan plan = getOneToManyPlan(records.get(0), parentType, childrenFieldName);
+        return plan.mapAll(records).stream().map(parentType::cast).collect(Collectors.toList());
+    }
 
-        /**
-         * {@link Record} {@link org.jooq.Field}의 값을 목적지 필드에 할당
-         *
-         * @param sourceValue      {@link Record} {@link org.jooq.Field}의 값
-         * @param destination      목적지 클래스
-         * @param destinationField 목적지 필드
-         * @param <D>              목적지 클래스 타입
-         */
-        <D> void set(Object sourceValue, D destination, Field destinationField);
+    /**
+     * {@link #mapAllGrouped(Result, Class, String)}와 같으나, 부모 id로 정렬된 커서를 순회하며 부모를 하나씩 내보내는 스트림 반환<br/>
+     * 부모 id가 바뀔 때마다 묶은 부모를 내보내므로 전체 결과를 메모리에 올리지 않는다. (정렬되지 않은 커서에서는 같은 부모가 여러 번 나올 수 있음)
+     * 스트림을 닫으면 커서도 닫히므로 try-with-resources와 함께 사용한다.
+     *
+     * @param cursor            JOOQ Cursor (부모 id로 정렬된 1:N join 결과)
+     * @param parentType        부모 타입 클래스
+     * @param childrenFieldName 자식을 담을 컬렉션 필드 이름 (List, Set, Collection 타입)
+     * @param <R>               JOOQ Record 구현체
+     * @param <P>               부모 타입
+     * @return 부모의 순차 스트림
+     */
+    public <P extends Identifiable<?>, R extends Record> Stream<P> streamGrouped(
+            Cursor<R> cursor, Class<P> parentType, String childrenFieldName) {
+
+        final Iterator<R> records = cursor.iterator();
+        if (!records.hasNext())
+            return Stream.<P>empty().onClose(cursor::close);
+
+        final R first = records.next();
+        final OneToManyMappingPlan plan = getOneToManyPlan(first, parentType, childrenFieldName);
+        return StreamSupport
+                .stream(plan.spliterator(first, records), false)
+                .onClose(cursor::close)
+                .map(parentType::cast);
     }
 
+    /**
+     * 같은 필드 구성의 Record들을 순차적으로 변환하는 함수 반환<br/>
+     * 계획은 첫 Record에서 조회한 것을 계속 사용한다. (순차 사용을 전제하므로 동기화하지 않음)
+     *
+     * @param destinationType 변환 결과 타입 클래스
+     * @return 변환 함수
+     */
+    <D, R extends Record> Function<R, D> mappingFunction(Class<D> destinationType) {
+        return new Function<R, D>() {
+
+            private RecordMappingPlan plan;
+
+            @Override
+            public D apply(R source) {
+                if (plan == null)
+                    plan = getPlan(source, destinationType);
+
+                return destinationType.cast(plan.create(source));
+            }
+        };
+    }
 
     /**
-     * {@link Record} {@link org.jooq.Field}의 값을 Encodable 타입의 필드에 할당하기 위한 {@link FieldMapper}
+     * {@link #mappingFunction(Class)}와 같으나, ringSize개의 객체를 순서대로 돌아가며 덮어쓰는 함수 반환<br/>
+     * 객체는 처음 ringSize개의 Record에서만 생성한다.
      *
-     * @param <T> Encodable의 code 값 타입
-     * @param <E> Encodable 구현체의 타입
+     * @param destinationType 변환 결과 타입 클래스
+     * @param ringSize        돌아가며 재사용할 객체 수
+     * @return 변환 함수
      */
-    static class EncodableFieldMapper<T, E extends Enum<E> & Encodable<T>> implements FieldMapper {
-
-        @Override
-        @SuppressWarnings("unchecked")
-        public boolean match(Object sourceValue, Field destination) {
-            if (!destination.getType().isEnum())
-                return false;
-
-            if (!Encodable.class.isAssignableFrom(destination.getType()))
-                return false;
-
-            final Class<?> sourceType;
-            if (EnumType.class.isAssignableFrom(sourceValue.getClass())) {
-                sourceType = ((EnumType) sourceValue).getLiteral().getClass();
-            } else {
-                sourceType = sourceValue.getClass();
+    <D, R extends Record> Function<R, D> reusingFunction(Class<D> destinationType, int ringSize) {
+        return new Function<R, D>() {
+
+            private final Object[] ring = new Object[ringSize];
+            private RecordMappingPlan plan;
+            private int next;
+
+            @Override
+            public D apply(R source) {
+                if (plan == null)
+                    plan = getPlan(source, destinationType);
+
+                // 생성 시에도 덮어쓰기로 할당하여, null인 필드가 처음 ringSize개의 행에서만 필드 초기값으로 남지 않도록 함
+                final Object destination = ring[next] == null
+                        ? plan.overwrite(source, plan.create(source))
+                        : plan.overwrite(source, ring[next]);
+
+                ring[next] = destination;
+                next = (next + 1) % ring.length;
+                return destinationType.cast(destination);
             }
+        };
+    }
 
-            final E firstEncodableValue = (E) destination.getType().getEnumConstants()[0];
-            return sourceType == firstEncodableValue.getCode().getClass();
+    // 변환 계획 조회 (없으면 생성하여 캐시), JooqMappingWarmUp이 기동 시점에 미리 생성하는 용도로도 사용
+    <R extends Record> RecordMappingPlan getPlan(R source, Class<?> destinationType) {
+        val shape = fieldMappingCache.shapeOf(source);
+        if (shape.size() < 1) {
+            log.warn("No fields on source({}).", source.getClass());
+            return RecordMappingPlan.empty(DestinationFactory.of(destinationType));
         }
 
-        @Override
-        @SuppressWarnings("unchecked")
-        public <D> void set(Object sourceValue, D destination, Field destinationField) {
-            final Class<E> destinationFieldType = (Class<E>) destinationField.getType();
+        // 필드 목록은 클래스마다 한 번만 계산되므로 Record마다 reflection을 반복하지 않음
+        val destinationFields = ClassMetadata.of(destinationType).getFields();
+        if (destinationFields.isEmpty()) {
+            log.warn("No fields on destination({}).", destinationType);
+            return RecordMappingPlan.empty(DestinationFactory.of(destinationType));
+        }
 
-            final T encodableCode;
-            if (EnumType.class.isAssignableFrom(sourceValue.getClass())) {
-                encodableCode = (T) ((EnumType) sourceValue).getLiteral();
-            } else {
-                encodableCode = (T) sourceValue;
-            }
+        val cached = fieldMappingCache.get(shape, destinationType);
+
+        return cached.orElseGet(() -> {
+            final RecordMappingPlan generated = generatePlan(shape.getFields(), destinationType, destinationFields);
+            fieldMappingCache.put(shape, destinationType, generated);
+            log.debug("mapping plan cached. shape: {}, destination: {}, steps: {}", shape, destinationType, generated.size());
+            return generated;
+        });
+    }
 
-            final E encodable = Encodable.codeOf(
-                    destinationFieldType.getEnumConstants(), encodableCode);
+    // ResultSet 변환 계획 조회 (컬럼 이름과 JDBC 타입이 같으면 같은 계획을 사용)
+    ResultSetMappingPlan getPlan(ResultSetMetaData metaData, Class<?> destinationType) throws SQLException {
+        final StringBuilder key = new StringBuilder();
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            key.append(metaData.getColumnLabel(column)).append(':').append(metaData.getColumnType(column)).append(',');
+        }
 
-            try {
-                ReflectionUtil.setField(destination, destinationField, encodable);
-            } catch (IllegalAccessException e) {
-                throw new JooqRecordMappingException("Field set failed.", e);
-            }
+        final ConcurrentMap<String, ResultSetMappingPlan> plans = resultSetPlans.get(destinationType);
+        final ResultSetMappingPlan cached = plans.get(key.toString());
+        if (cached != null)
+            return cached;
+
+        final ResultSetMappingPlan generated = ResultSetMappingPlan.of(metaData, destinationType, fieldMappers);
+        log.debug("result set mapping plan cached. columns: {}, destination: {}, steps: {}",
+                key, destinationType, generated.size());
+        final ResultSetMappingPlan raced = plans.putIfAbsent(key.toString(), generated);
+        return raced == null ? generated : raced;
+    }
+
+    /**
+     * 1:N 변환 계획 생성 (Result나 Cursor마다 첫 Record로 한 번만 생성)<br/>
+     * 부모와 자식의 하위 계획은 각자 할당받은 Record 필드만 매칭하므로, 양쪽 테이블에 모두 있는 id 같은 필드가 서로를 덮어쓰지 않는다.
+     */
+    <R extends Record> OneToManyMappingPlan getOneToManyPlan(R source, Class<?> parentType, String childrenFieldName) {
+        final ClassMetadata.FieldMetadata childrenField = ClassMetadata.of(parentType).getFields().stream()
+                .filter(field -> field.getField().getName().equals(childrenFieldName))
+                .findFirst()
+                .orElseThrow(() -> new JooqRecordMappingException("Children field not found: " + childrenFieldName));
+
+        final Class<?> childType = elementTypeOf(childrenField.getField());
+        final org.jooq.Field<?>[] sourceFields = fieldMappingCache.shapeOf(source).getFields();
+        final Map<String, int[]> sourceIndex = JooqFieldTokenMatcher.indexJooqFields(sourceFields);
+
+        final Map<String, int[]> childIndex = indexNestedFields(
+                sourceFields, sourceIndex, JooqFieldTokenMatcher.normalizePojoName(childType.getSimpleName()),
+                childrenField.getKey(), new HashSet<>());
+        if (childIndex.isEmpty())
+            throw new JooqRecordMappingException("No child fields on source: " + childType);
+
+        final int[] childIndexes = childIndex.values().stream().flatMapToInt(IntStream::of).distinct().toArray();
+        final Map<String, int[]> parentIndex = unclaimed(
+                sourceIndex, IntStream.of(childIndexes).boxed().collect(Collectors.toSet()));
+
+        final int[] idIndexes = JooqFieldTokenMatcher.matchingIndexes(parentIndex, "id");
+        if (idIndexes.length == 0)
+            throw new JooqRecordMappingException("No id field on source: " + parentType);
+
+        final Set<Class<?>> visitedTypes = new HashSet<>(Arrays.asList(parentType, childType));
+        return new OneToManyMappingPlan(
+                generatePlan(sourceFields, parentIndex, DestinationFactory.of(parentType),
+                        ClassMetadata.of(parentType).getFields(), null, visitedTypes),
+                idIndexes[idIndexes.length - 1],
+                generatePlan(sourceFields, childIndex, DestinationFactory.of(childType),
+                        ClassMetadata.of(childType).getFields(), null, visitedTypes),
+                childIndexes,
+                childrenField,
+                collectionFactoryOf(childrenField.getType()));
+    }
+
+    private static Class<?> elementTypeOf(Field collectionField) {
+        final Type genericType = collectionField.getGenericType();
+        if (genericType instanceof ParameterizedType) {
+            final Type elementType = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            if (elementType instanceof Class)
+                return (Class<?>) elementType;
         }
+
+        throw new JooqRecordMappingException("Children element type not resolvable: " + collectionField);
+    }
+
+    private static Supplier<Collection<Object>> collectionFactoryOf(Class<?> collectionType) {
+        if (collectionType.isAssignableFrom(ArrayList.class))
+            return ArrayList::new;
+        if (collectionType.isAssignableFrom(LinkedHashSet.class))
+            return LinkedHashSet::new;
+
+        throw new JooqRecordMappingException("Unsupported children field type: " + collectionType);
     }
 
+    private RecordMappingPlan generatePlan(org.jooq.Field<?>[] sourceFields, Class<?> destinationType,
+                                           List<ClassMetadata.FieldMetadata> destinationFields) {
+
+        // 같은 key의 레코드는 필드 구성과 순서가 같으므로, 원본 필드를 위치로 고정할 수 있다.
+        final Map<String, int[]> sourceIndex = JooqFieldTokenMatcher.indexJooqFields(sourceFields);
+        final Set<Class<?>> visitedTypes = new HashSet<>();
+        visitedTypes.add(destinationType);
+
+        return generatePlan(sourceFields, sourceIndex, DestinationFactory.of(destinationType), destinationFields,
+                generatedMapperOf(destinationType), visitedTypes);
+    }
 
     /**
-     * Encodable이 아닌 일반 데이터 타입의 변환을 위한 {@link FieldMapper}
+     * @param sourceFields Record의 전체 필드
+     * @param sourceIndex  목적지 클래스 기준의 key → Record 필드 위치 (중첩 객체는 접두어를 뗀 key)
+     * @param visitedTypes 상위 계획들의 목적지 클래스 (자기 자신을 참조하는 중첩은 따라가지 않음)
      */
-    static class DefaultFieldMapper implements FieldMapper {
+    private RecordMappingPlan generatePlan(org.jooq.Field<?>[] sourceFields, Map<String, int[]> sourceIndex,
+                                           DestinationFactory factory,
+                                           List<ClassMetadata.FieldMetadata> destinationFields,
+                                           GeneratedJooqMapper<Object, Record> generatedMapper,
+                                           Set<Class<?>> visitedTypes) {
+
+        // 이름으로 매칭되는 Record 필드가 없는 객체 타입의 필드는 접두어나 테이블로 구분된 필드들로 채움
+        val nested = new ArrayList<RecordMappingPlan.Nested>();
+        val claimedIndexes = new HashSet<Integer>();
+        for (ClassMetadata.FieldMetadata destinationField : destinationFields) {
+            val nestedType = destinationField.getType();
+            if (destinationField.getKey() == null || sourceIndex.containsKey(destinationField.getKey())
+                    || visitedTypes.contains(nestedType) || !JooqRecordMapperProvider.supports(nestedType))
+                continue;
+
+            val qualifiedIndexes = new HashSet<Integer>();
+            val nestedIndex = indexNestedFields(
+                    sourceFields, sourceIndex, destinationField.getKey(), destinationField.getKey(), qualifiedIndexes);
+            if (nestedIndex.isEmpty())
+                continue;
+
+            visitedTypes.add(nestedType);
+            val nestedPlan = generatePlan(
+                    sourceFields, nestedIndex, DestinationFactory.of(nestedType),
+                    ClassMetadata.of(nestedType).getFields(), null, visitedTypes);
+            visitedTypes.remove(nestedType);
+
+            if (nestedPlan.size() > 0) {
+                nested.add(new RecordMappingPlan.Nested(
+                        nestedIndex.values().stream().flatMapToInt(IntStream::of).distinct().toArray(),
+                        destinationField.getter(), destinationField.setter(), nestedPlan));
+                claimedIndexes.addAll(qualifiedIndexes);
+            }
+        }
 
-        @Override
-        public boolean match(Object sourceValue, Field destination) {
-            return ReflectionUtil.isAssignable(destination.getType(), sourceValue.getClass());
+        // 중첩 객체의 테이블로 구분된 필드는 부모 필드에 매칭하지 않음 (join한 테이블들의 id 등이 부모 필드를 덮어쓰지 않도록)
+        val directIndex = claimedIndexes.isEmpty() ? sourceIndex : unclaimed(sourceIndex, claimedIndexes);
+
+        // 생성자 파라미터는 이름이 같은 Record 필드 값으로 채움 (같은 key의 필드가 여럿이면 필드 할당과 마찬가지로 마지막 값)
+        val parameterNames = factory.getParameterNames();
+        val arguments = new RecordMappingPlan.Argument[parameterNames.length];
+        val parameterKeys = new HashSet<String>();
+        for (int p = 0; p < parameterNames.length; p++) {
+            val indexes = JooqFieldTokenMatcher.matchingIndexes(directIndex, parameterNames[p]);
+            val i = indexes.length == 0 ? -1 : indexes[indexes.length - 1];
+            arguments[p] = new RecordMappingPlan.Argument(
+                    i, i < 0 ? null : sourceFields[i], factory, p, fieldMappers);
+            parameterKeys.add(JooqFieldTokenMatcher.normalizePojoName(parameterNames[p]));
         }
 
-        @Override
-        public <D> void set(Object sourceValue, D destination, Field destinationField) {
-            try {
-                ReflectionUtil.setField(destination, destinationField, sourceValue);
-            } catch (IllegalAccessException e) {
-                throw new JooqRecordMappingException("Field set failed.", e);
+        val steps = new ArrayList<RecordMappingPlan.Step>();
+        val remainingSteps = new ArrayList<RecordMappingPlan.Step>();
+        for (ClassMetadata.FieldMetadata destinationField : destinationFields) {
+            for (int i : JooqFieldTokenMatcher.matchingIndexes(directIndex, destinationField)) {
+                val step = new RecordMappingPlan.Step(
+                        i, sourceFields[i], destinationField.getField(), destinationField.setter(), fieldMappers);
+                steps.add(step);
+                if (!parameterKeys.contains(destinationField.getKey()))
+                    remainingSteps.add(step);
+            }
+        }
+
+        return new RecordMappingPlan(
+                factory,
+                arguments,
+                steps.toArray(new RecordMappingPlan.Step[steps.size()]),
+                remainingSteps.toArray(new RecordMappingPlan.Step[remainingSteps.size()]),
+                nested.toArray(new RecordMappingPlan.Nested[nested.size()]),
+                generatedMapper);
+    }
+
+    /**
+     * 중첩 객체(또는 1:N의 자식) 필드에 대응되는 Record 필드들을 중첩 객체 기준의 key로 색인
+     * <ul>
+     * <li>테이블(또는 alias) 이름이 tableKey와 같은 테이블의 필드. 예시) creator.name → name (qualifiedIndexes에 추가)</li>
+     * <li>key가 prefix + `_`로 시작하는 필드. 예시) creator_name → name</li>
+     * </ul>
+     */
+    private static Map<String, int[]> indexNestedFields(
+            org.jooq.Field<?>[] sourceFields, Map<String, int[]> sourceIndex, String tableKey, String prefix,
+            Set<Integer> qualifiedIndexes) {
+
+        val nestedIndex = new HashMap<String, int[]>();
+        for (Map.Entry<String, int[]> entry : sourceIndex.entrySet()) {
+            for (int i : entry.getValue()) {
+                final String key;
+                if (tableKey != null && isQualifiedBy(sourceFields[i], tableKey)) {
+                    key = entry.getKey();
+                    qualifiedIndexes.add(i);
+                } else if (prefix != null && entry.getKey().length() > prefix.length() + 1
+                        && entry.getKey().startsWith(prefix)
+                        && entry.getKey().charAt(prefix.length()) == '_') {
+                    key = entry.getKey().substring(prefix.length() + 1);
+                } else {
+                    continue;
+                }
+
+                nestedIndex.merge(key, new int[]{i}, CachedJooqRecordToPojoMapper::concat);
             }
         }
+
+        // 원래 Record 필드 순서를 유지 (같은 key의 필드가 여럿이면 마지막 값이 할당되므로)
+        nestedIndex.values().forEach(Arrays::sort);
+        return nestedIndex;
+    }
+
+    private static boolean isQualifiedBy(org.jooq.Field<?> sourceField, String prefix) {
+        final String tableName = RecordShape.tableNameOf(sourceField);
+        return tableName != null && prefix.equals(JooqFieldTokenMatcher.normalizeJooqName(tableName));
+    }
+
+    private static Map<String, int[]> unclaimed(Map<String, int[]> sourceIndex, Set<Integer> claimedIndexes) {
+        val unclaimed = new HashMap<String, int[]>(sourceIndex.size() * 2);
+        sourceIndex.forEach((key, indexes) -> {
+            final int[] remaining = IntStream.of(indexes).filter(i -> !claimedIndexes.contains(i)).toArray();
+            if (remaining.length > 0)
+                unclaimed.put(key, remaining);
+        });
+
+        return unclaimed;
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        val merged = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, merged, first.length, second.length);
+        return merged;
+    }
+
+    // 생성된 변환기는 기본 변환기 목록만 사용하므로, 사용자 정의 변환기가 있으면 사용하지 않음
+    private GeneratedJooqMapper<Object, Record> generatedMapperOf(Class<?> destinationType) {
+        return fieldMappers == FieldMappers.defaults() ? GeneratedJooqMappers.find(destinationType) : null;
+    }
+
+    /**
+     * 변환 계획 캐시 조회 통계
+     */
+    @Getter
+    @ToString
+    public static class CacheStats {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int size;
+
+        CacheStats(long hitCount, long missCount, long evictionCount, int size) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+        }
     }
 
 
+    /**
+     * 크기가 제한된 변환 계획 캐시<br/>
+     * 계획은 목적지 클래스마다 {@link ClassValue}에 보관하므로 캐시가 클래스(와 그 클래스로더)를 붙잡지 않는다.
+     * 클래스가 unload되면 해당 클래스의 계획도 함께 사라진다.
+     * 최대 크기를 넘으면 가장 오래 사용되지 않은 계획부터 일정량을 한 번에 제거한다. (근사 LRU)
+     */
     static class FieldMappingCache {
 
-        private final Map<Key, Set<FieldMapping>> keyToMappings;
+        static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+        private final int maximumSize;
+        private final ClassValue<Segment> segments = new ClassValue<Segment>() {
+
+            @Override
+            protected Segment computeValue(Class<?> destinationClazz) {
+                final Segment segment = new Segment();
+                segmentRefs.add(new WeakReference<>(segment));
+                return segment;
+            }
+        };
+        private final Queue<WeakReference<Segment>> segmentRefs = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final ReentrantLock evictionLock = new ReentrantLock();
+
+        // 접근 시각 대신 계획이 추가될 때만 증가하는 시계를 사용 (조회 시에는 값이 바뀐 경우에만 기록하여 쓰기 경합을 줄임)
+        private final AtomicLong clock = new AtomicLong();
+
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder missCount = new LongAdder();
+        private final LongAdder evictionCount = new LongAdder();
+
+        // 한 Result나 Cursor의 Record들은 필드 배열을 공유하므로, 직전 형태를 보관해 두면 형태 계산 없이 참조 비교로 끝난다.
+        private volatile RecordShape recentShape;
 
         FieldMappingCache() {
-            keyToMappings = new ConcurrentHashMap<>();
+            this(DEFAULT_MAXIMUM_SIZE);
         }
 
-        Optional<Set<FieldMapping>> get(Key key) {
-            return Optional.ofNullable(keyToMappings.get(key));
-        }
+        FieldMappingCache(int maximumSize) {
+            if (maximumSize < 1)
+                throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
 
-        void put(Key key, Set<FieldMapping> mappings) {
-            keyToMappings.put(key, mappings);
+            this.maximumSize = maximumSize;
         }
 
-        @Getter
-        @ToString
-        @EqualsAndHashCode
-        static class Key {
+        RecordShape shapeOf(Record record) {
+            final RecordShape shape = RecordShape.of(record, recentShape);
+            recentShape = shape;
+            return shape;
+        }
 
-            private final Class<?> sourceClazz;
-            private final org.jooq.Field<?>[] sourceFields; // `sourceClass`가 `org.jooq.RecordImpl`인 경우가 다수여서 구분자가 더 필요함.
-            private final Class<?> destinationClazz;
+        Optional<RecordMappingPlan> get(RecordShape shape, Class<?> destinationClazz) {
+            final Entry entry = segments.get(destinationClazz).entries.get(shape);
+            if (entry == null) {
+                missCount.increment();
+                return Optional.empty();
+            }
 
-            private Key(Class<?> sourceClazz, org.jooq.Field<?>[] sourceFields,
-                        Class<?> destinationClazz) {
+            hitCount.increment();
+            entry.touch(clock.get());
+            return Optional.of(entry.plan);
+        }
 
-                this.sourceClazz = sourceClazz;
-                this.sourceFields = sourceFields;
-                this.destinationClazz = destinationClazz;
+        void put(RecordShape shape, Class<?> destinationClazz, RecordMappingPlan plan) {
+            final Entry entry = new Entry(plan, clock.incrementAndGet());
+            if (segments.get(destinationClazz).entries.put(shape, entry) == null
+                    && size.incrementAndGet() > maximumSize) {
+                evict();
             }
+        }
+
+        CacheStats stats() {
+            return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size.get());
+        }
+
+        private void evict() {
+            if (!evictionLock.tryLock())
+                return;
 
-            static Key of(Record record, Class<?> destinationClazz) {
-                return new Key(record.getClass(), record.fields(), destinationClazz);
+            try {
+                final List<Victim> candidates = new ArrayList<>();
+                for (Iterator<WeakReference<Segment>> it = segmentRefs.iterator(); it.hasNext(); ) {
+                    final Segment segment = it.next().get();
+                    if (segment == null) {
+                        it.remove();
+                        continue;
+                    }
+
+                    segment.entries.forEach((shape, entry) -> candidates.add(new Victim(segment, shape, entry)));
+                }
+
+                // unload된 클래스의 계획은 이미 사라졌으므로 실제 남아 있는 수로 보정
+                size.set(candidates.size());
+                if (candidates.size() <= maximumSize)
+                    return;
+
+                // 매번 한 건씩 제거하면 추가할 때마다 전체를 훑게 되므로, 최대 크기의 1/8 정도 여유를 두고 제거
+                final int target = maximumSize - maximumSize / 8;
+                candidates.sort(Comparator.comparingLong(victim -> victim.entry.lastAccess));
+                for (int i = 0; i < candidates.size() - target; i++) {
+                    final Victim victim = candidates.get(i);
+                    if (victim.segment.entries.remove(victim.shape, victim.entry)) {
+                        size.decrementAndGet();
+                        evictionCount.increment();
+                    }
+                }
+            } finally {
+                evictionLock.unlock();
             }
         }
-    }
 
+        private static class Segment {
 
-    @Getter
-    private static class FieldMapping {
+            private final Map<RecordShape, Entry> entries = new ConcurrentHashMap<>();
+        }
+
+        private static class Entry {
+
+            private final RecordMappingPlan plan;
+            private volatile long lastAccess;
+
+            private Entry(RecordMappingPlan plan, long lastAccess) {
+                this.plan = plan;
+                this.lastAccess = lastAccess;
+            }
 
-        private final org.jooq.Field<?> source;
-        private final Field target;
+            private void touch(long now) {
+                if (lastAccess != now)
+                    lastAccess = now;
+            }
+        }
+
+        private static class Victim {
 
-        FieldMapping(org.jooq.Field<?> source, Field target) {
-            this.source = source;
-            this.target = target;
+            private final Segment segment;
+            private final RecordShape shape;
+            private final Entry entry;
+
+            private Victim(Segment segment, RecordShape shape, Entry entry) {
+                this.segment = segment;
+                this.shape = shape;
+                this.entry = entry;
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,156 @@
+package codehumane.jooq;
+
+import codehumane.common.ReflectionUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클래스마다 한 번만 계산해 두는 변환 대상 필드 정보 (스레드 안전)<br/>
+ * 부모 클래스를 포함한 필드 중 static, synthetic 필드와 하위 클래스의 같은 이름 필드에 가려진(shadowed) 부모 필드는 제외한다.
+ * 필드마다 정규화된 이름 key, 타입, getter/setter 핸들을 함께 보관한다.
+ */
+final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> registry = new ClassValue<ClassMetadata>() {
+
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final List<FieldMetadata> fields;
+    private final Map<String, List<FieldMetadata>> fieldsByKey;
+
+    private ClassMetadata(Class<?> type) {
+        // 같은 이름이면 하위 클래스의 필드만 남김 (getAllFields는 부모 클래스 필드부터 반환)
+        final Map<String, Field> byName = new LinkedHashMap<>();
+        for (Field field : ReflectionUtil.getAllFields(type)) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic())
+                continue;
+
+            byName.remove(field.getName());
+            byName.put(field.getName(), field);
+        }
+
+        final List<FieldMetadata> fields = new ArrayList<>(byName.size());
+        final Map<String, List<FieldMetadata>> fieldsByKey = new LinkedHashMap<>();
+        for (Field field : byName.values()) {
+            final FieldMetadata metadata = new FieldMetadata(field, fields.size());
+            fields.add(metadata);
+            if (metadata.key != null)
+                fieldsByKey.computeIfAbsent(metadata.key, k -> new ArrayList<>(1)).add(metadata);
+        }
+
+        this.fields = Collections.unmodifiableList(fields);
+        this.fieldsByKey = fieldsByKey;
+    }
+
+    /**
+     * @param type 클래스
+     * @return 클래스의 필드 정보 (클래스마다 한 번만 계산)
+     */
+    static ClassMetadata of(Class<?> type) {
+        return registry.get(type);
+    }
+
+    /**
+     * @return 변환 대상 필드 목록 (부모 클래스 필드부터 선언 순서대로)
+     */
+    List<FieldMetadata> getFields() {
+        return fields;
+    }
+
+    /**
+     * @param key {@link JooqFieldTokenMatcher}로 정규화된 이름 key
+     * @return key가 같은 필드 목록
+     */
+    List<FieldMetadata> getFields(String key) {
+        final List<FieldMetadata> matched = key == null ? null : fieldsByKey.get(key);
+        return matched == null ? Collections.emptyList() : matched;
+    }
+
+
+    /**
+     * 변환 대상 필드 하나의 정보<br/>
+     * getter/setter 핸들은 처음 사용할 때 만들어 보관한다. (같은 핸들이 여러 번 만들어질 수 있으나 결과는 동일)
+     */
+    static final class FieldMetadata {
+
+        private final Field field;
+        private final int index;
+        private final String key;
+
+        private volatile MethodHandle getter;
+        private volatile MethodHandle setter;
+
+        private FieldMetadata(Field field, int index) {
+            this.field = field;
+            this.index = index;
+            this.key = JooqFieldTokenMatcher.normalize(field);
+        }
+
+        Field getField() {
+            return field;
+        }
+
+        /**
+         * @return {@link ClassMetadata#getFields()}에서의 위치
+         */
+        int getIndex() {
+            return index;
+        }
+
+        /**
+         * @return 정규화된 이름 key (어떤 Jooq 필드와도 매칭될 수 없는 이름이면 null)
+         */
+        String getKey() {
+            return key;
+        }
+
+        Class<?> getType() {
+            return field.getType();
+        }
+
+        /**
+         * @return `(Object)Object` 타입의 getter 핸들
+         */
+        MethodHandle getter() {
+            MethodHandle handle = getter;
+            if (handle == null) {
+                try {
+                    handle = ReflectionUtil.getterHandle(field);
+                } catch (IllegalAccessException e) {
+                    throw new JooqRecordMappingException("Source field not accessible.", e);
+                }
+                getter = handle;
+            }
+
+            return handle;
+        }
+
+        /**
+         * @return `(Object, Object)void` 타입의 setter 핸들
+         */
+        MethodHandle setter() {
+            MethodHandle handle = setter;
+            if (handle == null) {
+                try {
+                    handle = ReflectionUtil.setterHandle(field);
+                } catch (IllegalAccessException e) {
+                    throw new JooqRecordMappingException("Field not accessible.", e);
+                }
+                setter = handle;
+            }
+
+            return handle;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package codehumane.jooq;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * 하나의 목적지 타입에 대해 마지막으로 사용한 {@link FieldMapper}를 값의 타입과 함께 보관 (inline cache)<br/>
+ * 값의 타입이 바뀌지 않는 한 {@link FieldMappers}의 조회표조차 거치지 않는다. 불변 객체 교체 방식이므로 스레드 사이에 공유할 수 있다.
+ */
+final class ConversionCache {
+
+    private final FieldMappers fieldMappers;
+    private final Class<?> destinationType;
+    private final String destinationName; // 예외 메시지용
+
+    private volatile Conversion conversion;
+
+    /**
+     * @param fieldMappers       변환기 목록
+     * @param destinationType    목적지 타입
+     * @param destinationName    목적지 이름 (예외 메시지용)
+     * @param expectedSourceType 값의 타입으로 예상되는 타입 (알 수 없으면 null). 변환기를 미리 찾아 두어 첫 변환부터 조회 없이 사용한다.
+     */
+    ConversionCache(FieldMappers fieldMappers, Class<?> destinationType, String destinationName,
+                    Class<?> expectedSourceType) {
+
+        this.fieldMappers = fieldMappers;
+        this.destinationType = destinationType;
+        this.destinationName = destinationName;
+
+        final Class<?> sourceType = expectedSourceType == null
+                ? null
+                : ClassUtils.resolvePrimitiveIfNecessary(expectedSourceType);
+        final FieldMapper fieldMapper = sourceType == null ? null : fieldMappers.find(sourceType, destinationType);
+        if (fieldMapper != null)
+            this.conversion = new Conversion(sourceType, fieldMapper);
+    }
+
+    /**
+     * @param sourceValue 변환할 값 (null이 아니어야 함)
+     * @return 목적지 타입으로 변환된 값
+     */
+    Object map(Object sourceValue) {
+        return fieldMapperOf(sourceValue.getClass()).map(sourceValue, destinationType);
+    }
+
+    private FieldMapper fieldMapperOf(Class<?> sourceType) {
+        final Conversion cached = conversion;
+        if (cached != null && cached.sourceType == sourceType)
+            return cached.fieldMapper;
+
+        final FieldMapper fieldMapper = fieldMappers.find(sourceType, destinationType);
+        if (fieldMapper == null) {
+            throw new JooqRecordMappingException(String.format(
+                    "임시 예외 반환: Name matched but type not matched. [%s]",
+                    destinationName
+            ));
+        }
+
+        conversion = new Conversion(sourceType, fieldMapper);
+        return fieldMapper;
+    }
+
+
+    private static final class Conversion {
+
+        private final Class<?> sourceType;
+        private final FieldMapper fieldMapper;
+
+        private Conversion(Class<?> sourceType, FieldMapper fieldMapper) {
+            this.sourceType = sourceType;
+            this.fieldMapper = fieldMapper;
+        }
+    }
+}
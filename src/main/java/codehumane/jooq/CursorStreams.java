@@ -0,0 +1,75 @@
+package codehumane.jooq;
+
+import org.jooq.Cursor;
+import org.jooq.Record;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Cursor}나 {@link ResultSet}을 순회하는 {@link Stream} 생성 도구
+ */
+class CursorStreams {
+
+    /**
+     * 다음 원소가 요청될 때마다 {@link Cursor}에서 레코드를 하나씩 꺼내는 순차 {@link Stream}을 만든다.<br/>
+     * 레코드는 미리 읽어두지 않으므로, JDBC 드라이버에서 한 번에 가져오는 행의 수는 커서를 만든 쿼리의 fetch size를 따른다.
+     * 스트림을 닫으면 커서도 함께 닫힌다.
+     *
+     * @param cursor JOOQ Cursor
+     * @param <R>    JOOQ Record 구현체
+     * @return 커서 기반의 순차 스트림
+     */
+    static <R extends Record> Stream<R> of(Cursor<R> cursor) {
+        final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize(
+                cursor.iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport
+                .stream(spliterator, false)
+                .onClose(cursor::close);
+    }
+
+    /**
+     * 다음 원소가 요청될 때마다 {@link ResultSet}을 한 행 이동하여 변환하는 순차 {@link Stream}을 만든다.<br/>
+     * 스트림을 닫으면 ResultSet도 함께 닫힌다.
+     *
+     * @param resultSet       JDBC ResultSet
+     * @param plan            ResultSet의 컬럼 구성에 대한 변환 계획
+     * @param destinationType 변환 결과 타입 클래스
+     * @param <D>             변환 결과 타입
+     * @return ResultSet 기반의 순차 스트림
+     */
+    static <D> Stream<D> of(ResultSet resultSet, ResultSetMappingPlan plan, Class<D> destinationType) {
+        final Spliterator<D> spliterator = new Spliterators.AbstractSpliterator<D>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+
+            @Override
+            public boolean tryAdvance(Consumer<? super D> action) {
+                try {
+                    if (!resultSet.next())
+                        return false;
+
+                    action.accept(destinationType.cast(plan.create(resultSet)));
+                    return true;
+                } catch (SQLException e) {
+                    throw new JooqRecordMappingException("ResultSet read failed.", e);
+                }
+            }
+        };
+
+        return StreamSupport
+                .stream(spliterator, false)
+                .onClose(() -> {
+                    try {
+                        resultSet.close();
+                    } catch (SQLException e) {
+                        throw new JooqRecordMappingException("ResultSet close failed.", e);
+                    }
+                });
+    }
+}
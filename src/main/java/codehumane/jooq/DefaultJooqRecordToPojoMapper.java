@@ -1,19 +1,21 @@
 package codehumane.jooq;
 
-import codehumane.common.Encodable;
 import codehumane.common.ReflectionUtil;
 import lombok.extern.slf4j.Slf4j;
-import org.jooq.EnumType;
+import org.jooq.Cursor;
 import org.jooq.Record;
+import org.jooq.Result;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.util.LinkedHashSet;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -22,30 +24,71 @@ import java.util.stream.Stream;
 @Slf4j
 public class DefaultJooqRecordToPojoMapper implements JooqRecordToPojoMapper {
 
-    private static final Set<FieldMapper> fieldMappers = new LinkedHashSet<>();
+    private final FieldMappers fieldMappers;
 
-    static {
-        fieldMappers.add(new EncodableFieldMapper<>()); // 순서 중요
-        fieldMappers.add(new DefaultFieldMapper());
+    public DefaultJooqRecordToPojoMapper() {
+        this(FieldMappers.defaults());
+    }
+
+    /**
+     * @param fieldMappers 값 변환에 사용할 {@link FieldMapper} 목록 (사용자 정의 변환기 포함)
+     */
+    public DefaultJooqRecordToPojoMapper(FieldMappers fieldMappers) {
+        this.fieldMappers = fieldMappers;
     }
 
     public <D, R extends Record> D map(R source, Class<D> destinationType) {
-        final D destination;
+        final D destination = instantiate(getDefaultConstructor(destinationType));
+        return map(source, destination);
+    }
+
+    public <D, R extends Record> List<D> mapAll(Result<R> sources, Class<D> destinationType) {
+        final List<D> destinations = new ArrayList<>(sources.size());
+        if (sources.isEmpty())
+            return destinations;
+
+        final Constructor<D> constructor = getDefaultConstructor(destinationType);
+        for (R source : sources) {
+            destinations.add(map(source, instantiate(constructor)));
+        }
+
+        return destinations;
+    }
+
+    public <D, R extends Record> List<D> mapAll(Result<R> sources, Class<D> destinationType, ForkJoinPool pool) {
+        final Constructor<D> constructor = getDefaultConstructor(destinationType);
+        return ParallelRecordMapping.mapAll(
+                sources, source -> map(source, instantiate(constructor)), pool);
+    }
+
+    public <D, R extends Record> Stream<D> stream(Cursor<R> cursor, Class<D> destinationType) {
+        final Constructor<D> constructor = getDefaultConstructor(destinationType);
+        return CursorStreams
+                .of(cursor)
+                .map(source -> map(source, instantiate(constructor)));
+    }
+
+    private <D> Constructor<D> getDefaultConstructor(Class<D> destinationType) {
 
         try {
-            destination = ReflectionUtil.constructByDefault(destinationType);
-        } catch (InstantiationException | IllegalAccessException
-                | InvocationTargetException e) {
-            throw new JooqRecordMappingException("Failed instantiation", e);
+            return ReflectionUtil.getDefaultConstructor(destinationType);
         } catch (NoSuchMethodException e) {
             throw new JooqRecordMappingException("Failed instantiation - No default constructor.", e);
         }
+    }
 
-        return map(source, destination);
+    private <D> D instantiate(Constructor<D> constructor) {
+
+        try {
+            return constructor.newInstance();
+        } catch (InstantiationException | IllegalAccessException
+                | InvocationTargetException e) {
+            throw new JooqRecordMappingException("Failed instantiation", e);
+        }
     }
 
     public <D, R extends Record> D map(R source, D destination) {
-        final List<Field> destinationFields = ReflectionUtil.getAllFields(destination.getClass());
+        final List<ClassMetadata.FieldMetadata> destinationFields = ClassMetadata.of(destination.getClass()).getFields();
         if (destinationFields.isEmpty()) {
             log.warn("No fields on destination({}).", destination.getClass());
             return destination;
@@ -57,139 +100,42 @@ public class DefaultJooqRecordToPojoMapper implements JooqRecordToPojoMapper {
             return destination;
         }
 
-        // 불필요한 변환을 막기 위해 Pojo의 필드를 기준으로 루프 순환
+        // 불필요한 변환을 막기 위해 Pojo의 필드를 기준으로 루프 순환 (Record 필드는 이름 key로 색인해 두고 조회)
+        final Map<String, int[]> sourceIndex = JooqFieldTokenMatcher.indexJooqFields(sourceFields);
         destinationFields.forEach(destinationField ->
-                fieldMap(source, sourceFields, destination, destinationField));
+                fieldMap(source, sourceIndex, destination, destinationField));
 
         return destination;
     }
 
     // 필드에 대한 변환 수행
     private <D, R extends Record> void fieldMap(
-            R source, org.jooq.Field<?>[] sourceFields, D destination, Field destinationField) {
+            R source, Map<String, int[]> sourceIndex, D destination, ClassMetadata.FieldMetadata destinationField) {
 
-        Stream.of(sourceFields)
-                .filter(matchToken(destinationField))
-                .map(source::get)
+        // 값은 위치로 읽음 (`Record.get(Field)`는 호출마다 레코드의 필드 목록을 다시 탐색)
+        IntStream.of(JooqFieldTokenMatcher.matchingIndexes(sourceIndex, destinationField))
+                .mapToObj(i -> source.get(i))
                 .filter(Objects::nonNull)
-                .forEach(delegateToFieldMapper(destination, destinationField));
-    }
-
-    private Predicate<org.jooq.Field<?>> matchToken(Field destinationField) {
-        return sourceField -> JooqFieldTokenMatcher.match(sourceField, destinationField);
+                .forEach(delegateToFieldMapper(destination, destinationField.getField()));
     }
 
     private <D> Consumer<Object> delegateToFieldMapper(D destination, Field destinationField) {
 
         return value -> {
-            final FieldMapper delegate = fieldMappers.stream()
-                    .filter(m ->
-                            m.match(value, destinationField))
-                    .findFirst()
-                    .orElseThrow(() ->
-                            new JooqRecordMappingException(String.format(
-                                    "임시 예외 반환: Name matched but type not matched. [%s]",
-                                    destinationField.getName()
-                            )));
-
-            delegate.set(value, destination, destinationField);
-        };
-    }
-
-
-    /**
-     * {@link Record} {@link org.jooq.Field}의 값을 Pojo 필드에 할당하기 위한 변환 모듈
-     */
-    interface FieldMapper {
-
-        /**
-         * {@link Record} {@link org.jooq.Field}의 값이 목적지 필드에 할당될 수 있는지 여부 검사
-         *
-         * @param sourceValue {@link Record} {@link org.jooq.Field}의 값
-         * @param destination 목적지 필드
-         * @return 매칭 여부
-         */
-        boolean match(Object sourceValue, Field destination);
-
-        /**
-         * {@link Record} {@link org.jooq.Field}의 값을 목적지 필드에 할당
-         *
-         * @param sourceValue      {@link Record} {@link org.jooq.Field}의 값
-         * @param destination      목적지 클래스
-         * @param destinationField 목적지 필드
-         * @param <D>              목적지 클래스 타입
-         */
-        <D> void set(Object sourceValue, D destination, Field destinationField);
-    }
-
-    /**
-     * {@link Record} {@link org.jooq.Field}의 값을 Encodable 타입의 필드에 할당하기 위한 {@link FieldMapper}
-     *
-     * @param <T> Encodable의 code 값 타입
-     * @param <E> Encodable 구현체의 타입
-     */
-    static class EncodableFieldMapper<T, E extends Enum<E> & Encodable<T>> implements FieldMapper {
-
-        @Override
-        @SuppressWarnings("unchecked")
-        public boolean match(Object sourceValue, Field destination) {
-            if (!destination.getType().isEnum())
-                return false;
-
-            if (!Encodable.class.isAssignableFrom(destination.getType()))
-                return false;
-
-            final Class<?> sourceType;
-            if (EnumType.class.isAssignableFrom(sourceValue.getClass())) {
-                sourceType = ((EnumType) sourceValue).getLiteral().getClass();
-            } else {
-                sourceType = sourceValue.getClass();
+            final FieldMapper delegate = fieldMappers.find(value.getClass(), destinationField.getType());
+            if (delegate == null) {
+                throw new JooqRecordMappingException(String.format(
+                        "임시 예외 반환: Name matched but type not matched. [%s]",
+                        destinationField.getName()
+                ));
             }
 
-            final E firstEncodableValue = (E) destination.getType().getEnumConstants()[0];
-            return sourceType == firstEncodableValue.getCode().getClass();
-        }
-
-        @Override
-        @SuppressWarnings("unchecked")
-        public <D> void set(Object sourceValue, D destination, Field destinationField) {
-            final Class<E> destinationFieldType = (Class<E>) destinationField.getType();
-
-            final T encodableCode;
-            if (EnumType.class.isAssignableFrom(sourceValue.getClass())) {
-                encodableCode = (T) ((EnumType) sourceValue).getLiteral();
-            } else {
-                encodableCode = (T) sourceValue;
-            }
-
-            final E encodable = Encodable.codeOf(
-                    destinationFieldType.getEnumConstants(), encodableCode);
-
             try {
-                ReflectionUtil.setField(destination, destinationField, encodable);
+                ReflectionUtil.setField(
+                        destination, destinationField, delegate.map(value, destinationField.getType()));
             } catch (IllegalAccessException e) {
                 throw new JooqRecordMappingException("Field set failed.", e);
             }
-        }
-    }
-
-    /**
-     * Encodable이 아닌 일반 데이터 타입의 변환을 위한 {@link FieldMapper}
-     */
-    static class DefaultFieldMapper implements FieldMapper {
-
-        @Override
-        public boolean match(Object sourceValue, Field destination) {
-            return ReflectionUtil.isAssignable(destination.getType(), sourceValue.getClass());
-        }
-
-        @Override
-        public <D> void set(Object sourceValue, D destination, Field destinationField) {
-            try {
-                ReflectionUtil.setField(destination, destinationField, sourceValue);
-            } catch (IllegalAccessException e) {
-                throw new JooqRecordMappingException("Field set failed.", e);
-            }
-        }
+        };
     }
 }
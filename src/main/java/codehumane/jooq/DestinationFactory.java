@@ -0,0 +1,151 @@
+package codehumane.jooq;
+
+import codehumane.common.ReflectionUtil;
+
+import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+
+/**
+ * 변환 결과 객체를 생성하는 방법 (클래스마다 한 번만 결정하고, 생성자 핸들을 만들어 둔다)<br/>
+ * 다음 순서로 생성자를 선택한다.
+ * <ol>
+ * <li>기본 생성자 (생성 후 필드에 값을 할당)</li>
+ * <li>{@link ConstructorProperties}가 붙은 생성자 (Lombok `@Value`, `@AllArgsConstructor`가 생성하는 형태) 중 파라미터가 가장 많은 것</li>
+ * <li>생성자가 하나뿐이고, `-parameters` 옵션으로 컴파일되어 파라미터 이름을 알 수 있는 경우 그 생성자</li>
+ * </ol>
+ * 파라미터 이름은 필드 이름과 같은 방식으로 Record 필드와 매칭되며, 값은 위치 순서대로 모아 한 번에 생성자에 전달한다.
+ */
+final class DestinationFactory {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private static final ClassValue<DestinationFactory> factories = new ClassValue<DestinationFactory>() {
+
+        @Override
+        protected DestinationFactory computeValue(Class<?> destinationType) {
+            return new DestinationFactory(destinationType);
+        }
+    };
+
+    private final MethodHandle constructor; // 생성할 수 없는 클래스면 null
+    private final String[] parameterNames;
+    private final Class<?>[] parameterTypes;
+    private final Object[] parameterDefaults; // primitive 파라미터에 값이 없을 때 전달할 기본값
+    private final JooqRecordMappingException failure; // 생성할 수 없는 이유 (생성 시점마다 같은 메시지와 원인으로 예외 발생)
+
+    private DestinationFactory(Class<?> destinationType) {
+        Constructor<?> selected = null;
+        String[] names = null;
+        JooqRecordMappingException failure = null;
+
+        try {
+            selected = ReflectionUtil.getDefaultConstructor(destinationType);
+            names = new String[0];
+        } catch (NoSuchMethodException e) {
+            failure = new JooqRecordMappingException("Failed instantiation - No default constructor.", e);
+        }
+
+        if (selected == null) {
+            for (Constructor<?> candidate : destinationType.getDeclaredConstructors()) {
+                final ConstructorProperties properties = candidate.getAnnotation(ConstructorProperties.class);
+                if (properties != null && properties.value().length == candidate.getParameterCount()
+                        && (selected == null || candidate.getParameterCount() > selected.getParameterCount())) {
+                    selected = candidate;
+                    names = properties.value();
+                }
+            }
+        }
+
+        if (selected == null && destinationType.getDeclaredConstructors().length == 1) {
+            final Constructor<?> candidate = destinationType.getDeclaredConstructors()[0];
+            final String[] parameterNames = parameterNamesOf(candidate);
+            if (parameterNames != null) {
+                selected = candidate;
+                names = parameterNames;
+            }
+        }
+
+        MethodHandle constructor = null;
+        if (selected != null) {
+            try {
+                constructor = ReflectionUtil.constructorHandle(selected);
+                failure = null;
+            } catch (IllegalAccessException | RuntimeException e) {
+                failure = new JooqRecordMappingException("Failed instantiation", e);
+            }
+        }
+
+        this.constructor = constructor;
+        this.failure = failure;
+        this.parameterNames = constructor == null ? new String[0] : names;
+        this.parameterTypes = constructor == null ? new Class<?>[0] : selected.getParameterTypes();
+        this.parameterDefaults = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterDefaults[i] = ReflectionUtil.defaultValueOf(parameterTypes[i]);
+        }
+    }
+
+    private static String[] parameterNamesOf(Constructor<?> constructor) {
+        final Parameter[] parameters = constructor.getParameters();
+        final String[] names = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            if (!parameters[i].isNamePresent())
+                return null;
+
+            names[i] = parameters[i].getName();
+        }
+
+        return names;
+    }
+
+    /**
+     * @param destinationType 변환 결과 타입 클래스
+     * @return 생성 방법 (생성할 수 없는 클래스여도 반환하며, 생성 시점에 예외가 발생함)
+     */
+    static DestinationFactory of(Class<?> destinationType) {
+        return factories.get(destinationType);
+    }
+
+    /**
+     * @return 생성할 수 있는 클래스인지 여부
+     */
+    boolean isCreatable() {
+        return constructor != null;
+    }
+
+    /**
+     * @return 생성자 파라미터 이름 (기본 생성자면 빈 배열)
+     */
+    String[] getParameterNames() {
+        return parameterNames;
+    }
+
+    Class<?>[] getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * @param index 파라미터 위치
+     * @return 값이 없을 때 전달할 값 (primitive는 0 또는 false, 그 외는 null)
+     */
+    Object getParameterDefault(int index) {
+        return parameterDefaults[index];
+    }
+
+    /**
+     * @param arguments 생성자 파라미터 순서대로 모은 값 (기본 생성자면 null 가능)
+     * @return 생성된 객체
+     */
+    Object create(Object[] arguments) {
+        if (constructor == null)
+            throw new JooqRecordMappingException(failure.getMessage(), failure.getCause());
+
+        try {
+            return (Object) constructor.invokeExact(arguments == null ? NO_ARGUMENTS : arguments);
+        } catch (Throwable e) {
+            throw new JooqRecordMappingException("Failed instantiation", e);
+        }
+    }
+}
@@ -3,7 +3,13 @@ package codehumane.jooq;
 import codehumane.common.FeatureToggleProperties;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import org.jooq.Cursor;
 import org.jooq.Record;
+import org.jooq.Result;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 @AllArgsConstructor(access = AccessLevel.PACKAGE)
 public class FeatureRoutingJooqRecordToPojoMapper implements JooqRecordToPojoMapper {
@@ -22,6 +28,21 @@ public class FeatureRoutingJooqRecordToPojoMapper implements JooqRecordToPojoMap
         return decideMapper().map(record, destination);
     }
 
+    @Override
+    public <D, R extends Record> List<D> mapAll(Result<R> records, Class<D> destinationType) {
+        return decideMapper().mapAll(records, destinationType);
+    }
+
+    @Override
+    public <D, R extends Record> List<D> mapAll(Result<R> records, Class<D> destinationType, ForkJoinPool pool) {
+        return decideMapper().mapAll(records, destinationType, pool);
+    }
+
+    @Override
+    public <D, R extends Record> Stream<D> stream(Cursor<R> cursor, Class<D> destinationType) {
+        return decideMapper().stream(cursor, destinationType);
+    }
+
     private JooqRecordToPojoMapper decideMapper() {
         if (featureToggleProperties.isCachedJooqRecordMappingOn())
             return cachedJooqRecordToPojoMapper;
@@ -0,0 +1,30 @@
+package codehumane.jooq;
+
+import org.jooq.Record;
+
+/**
+ * 값을 다른 타입의 필드에 할당할 수 있도록 변환하는 모듈<br/>
+ * {@link Record} → Pojo, Pojo → {@link Record} 양방향 변환에 모두 쓰이며, 사용자 정의 변환기는 {@link FieldMappers}에 등록한다.
+ * 같은 (원본 값 타입, 목적지 필드 타입) 쌍에 대해서는 {@link #match(Class, Class)}를 다시 호출하지 않으므로,
+ * 매칭 여부는 두 타입만으로 결정되어야 한다.
+ */
+public interface FieldMapper {
+
+    /**
+     * 원본 값의 타입이 목적지 필드에 할당될 수 있는지(이 변환기가 담당하는지) 여부 검사
+     *
+     * @param sourceType      원본 값의 타입 (값의 실제 클래스)
+     * @param destinationType 목적지 필드의 타입
+     * @return 매칭 여부
+     */
+    boolean match(Class<?> sourceType, Class<?> destinationType);
+
+    /**
+     * 원본 값을 목적지 필드에 할당할 수 있는 값으로 변환
+     *
+     * @param sourceValue     원본 값 (null이 아님)
+     * @param destinationType 목적지 필드의 타입
+     * @return 목적지 필드에 할당할 값
+     */
+    Object map(Object sourceValue, Class<?> destinationType);
+}
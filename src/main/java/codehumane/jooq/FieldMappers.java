@@ -0,0 +1,236 @@
+package codehumane.jooq;
+
+import codehumane.common.Encodable;
+import codehumane.common.EncodableCodeTable;
+import codehumane.common.ReflectionUtil;
+import org.jooq.EnumType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 순서가 있는 {@link FieldMapper} 목록<br/>
+ * 사용자 정의 변환기가 기본 변환기보다 먼저 검사되며, (원본 값 타입, 목적지 필드 타입) 쌍마다 처음 매칭된 변환기를 기억해 두고 재사용한다.
+ * 기억해 둔 결과는 두 타입 각각의 {@link ClassValue}에 보관하므로, 공용 인스턴스가 애플리케이션 클래스(와 그 클래스로더)를 붙잡지 않는다.
+ */
+public final class FieldMappers {
+
+    private static final FieldMapper NO_MATCH = new FieldMapper() {
+
+        @Override
+        public boolean match(Class<?> sourceType, Class<?> destinationType) {
+            return false;
+        }
+
+        @Override
+        public Object map(Object sourceValue, Class<?> destinationType) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    private static final FieldMappers DEFAULTS = new FieldMappers();
+
+    private final List<FieldMapper> fieldMappers;
+    private final ClassValue<ClassValue<FieldMapper>> dispatchTable; // 목적지 필드 타입 → 원본 값 타입 → 변환기
+
+    /**
+     * @param customMappers 기본 변환기보다 먼저 검사할 사용자 정의 변환기 (순서대로 검사)
+     */
+    public FieldMappers(FieldMapper... customMappers) {
+        final List<FieldMapper> fieldMappers = new ArrayList<>(Arrays.asList(customMappers));
+        fieldMappers.add(new EncodableFieldMapper()); // 순서 중요
+        fieldMappers.add(new EncodableCodeFieldMapper());
+        fieldMappers.add(new DefaultFieldMapper()); // 그대로 할당할 수 있으면 변환하지 않음
+        fieldMappers.add(new TypeConverterFieldMapper());
+
+        this.fieldMappers = Collections.unmodifiableList(fieldMappers);
+        this.dispatchTable = new ClassValue<ClassValue<FieldMapper>>() {
+
+            @Override
+            protected ClassValue<FieldMapper> computeValue(Class<?> destinationType) {
+                return new ClassValue<FieldMapper>() {
+
+                    @Override
+                    protected FieldMapper computeValue(Class<?> sourceType) {
+                        return resolve(sourceType, destinationType);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * @return 기본 변환기만 가진 공용 인스턴스
+     */
+    public static FieldMappers defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @return 검사 순서대로 정렬된 변환기 목록
+     */
+    public List<FieldMapper> getFieldMappers() {
+        return fieldMappers;
+    }
+
+    /**
+     * 원본 값 타입과 목적지 필드 타입에 매칭되는 첫 번째 변환기 반환 (결과는 타입 쌍마다 기억해 둠)
+     *
+     * @param sourceType      원본 값의 타입
+     * @param destinationType 목적지 필드의 타입
+     * @return 변환기 (매칭되는 것이 없으면 null)
+     */
+    public FieldMapper find(Class<?> sourceType, Class<?> destinationType) {
+        final FieldMapper found = dispatchTable.get(destinationType).get(sourceType);
+        return found == NO_MATCH ? null : found;
+    }
+
+    private FieldMapper resolve(Class<?> sourceType, Class<?> destinationType) {
+        for (FieldMapper fieldMapper : fieldMappers) {
+            if (!fieldMapper.match(sourceType, destinationType))
+                continue;
+
+            // 등록된 변환 함수는 여기서 찾아 두어, 값을 변환할 때마다 다시 조회하지 않도록 함
+            return fieldMapper instanceof TypeConverterFieldMapper
+                    ? ((TypeConverterFieldMapper) fieldMapper).bind(sourceType, destinationType)
+                    : fieldMapper;
+        }
+
+        return NO_MATCH;
+    }
+
+
+    /**
+     * {@link org.jooq.Record} 필드의 값(code 또는 {@link EnumType})을 Encodable 타입의 필드에 할당하기 위한 {@link FieldMapper}
+     */
+    static class EncodableFieldMapper implements FieldMapper {
+
+        @Override
+        public boolean match(Class<?> sourceType, Class<?> destinationType) {
+            if (!EncodableCodeTable.isEncodableEnum(destinationType))
+                return false;
+
+            // EnumType은 literal(String)을 code로 사용
+            final Class<?> valueType = EnumType.class.isAssignableFrom(sourceType) ? String.class : sourceType;
+            final Class<?> codeType = EncodableCodeTable.ofType(destinationType).getCodeType();
+
+            // code와 타입이 다른 숫자(예: tinyint의 Byte와 Integer code)는 code 타입으로 변환하여 비교
+            return valueType == codeType || isNumberConvertible(valueType, codeType);
+        }
+
+        @Override
+        public Object map(Object sourceValue, Class<?> destinationType) {
+            final EncodableCodeTable<?> codeTable = EncodableCodeTable.ofType(destinationType);
+            final Object code = sourceValue instanceof EnumType
+                    ? ((EnumType) sourceValue).getLiteral()
+                    : sourceValue;
+
+            if (code.getClass() == codeTable.getCodeType())
+                return codeTable.decode(code);
+
+            return codeTable.decode(TypeConverters.find(code.getClass(), codeTable.getCodeType()).apply(code));
+        }
+    }
+
+
+    /**
+     * Encodable 타입의 값을 {@link org.jooq.Record} 필드(code 또는 {@link EnumType})에 할당하기 위한 {@link FieldMapper}
+     */
+    static class EncodableCodeFieldMapper implements FieldMapper {
+
+        @Override
+        public boolean match(Class<?> sourceType, Class<?> destinationType) {
+            if (!EncodableCodeTable.isEncodableEnum(sourceType))
+                return false;
+
+            final Class<?> codeType = EncodableCodeTable.ofType(sourceType).getCodeType();
+            if (destinationType.isEnum()) {
+                // org.jooq.EnumType에 대응되는 Encodable은 code 타입이 String인 것만 허용
+                return codeType == String.class
+                        && EnumType.class.isAssignableFrom(destinationType);
+            } else {
+                return destinationType == codeType || isNumberConvertible(codeType, destinationType);
+            }
+        }
+
+        @Override
+        public Object map(Object sourceValue, Class<?> destinationType) {
+            final Enum<?> encodable = (Enum<?>) sourceValue;
+            if (destinationType.isEnum()) {
+                return JooqEnumTypeTable
+                        .of(encodable.getDeclaringClass(), destinationType)
+                        .encode(encodable);
+            }
+
+            final Object code = ((Encodable<?>) sourceValue).getCode();
+            if (code == null || code.getClass() == destinationType)
+                return code;
+
+            return TypeConverters.find(code.getClass(), destinationType).apply(code);
+        }
+    }
+
+
+    /**
+     * Encodable이 아닌 일반 데이터 타입의 변환을 위한 {@link FieldMapper}
+     */
+    static class DefaultFieldMapper implements FieldMapper {
+
+        @Override
+        public boolean match(Class<?> sourceType, Class<?> destinationType) {
+            return ReflectionUtil.isAssignable(destinationType, sourceType);
+        }
+
+        @Override
+        public Object map(Object sourceValue, Class<?> destinationType) {
+            return sourceValue;
+        }
+    }
+
+
+    /**
+     * {@link TypeConverters}에 등록된 변환(숫자 확장/축소, 날짜 ↔ java.time, YNBoolean ↔ boolean)을 사용하는 {@link FieldMapper}<br/>
+     * 변환 함수는 타입 쌍마다 한 번만 조회되며, 이후에는 {@link FieldMappers}의 조회표와 계획 단계의 캐시를 통해 바로 사용된다.
+     */
+    static class TypeConverterFieldMapper implements FieldMapper {
+
+        @Override
+        public boolean match(Class<?> sourceType, Class<?> destinationType) {
+            return TypeConverters.find(sourceType, destinationType) != null;
+        }
+
+        @Override
+        public Object map(Object sourceValue, Class<?> destinationType) {
+            return TypeConverters.find(sourceValue.getClass(), destinationType).apply(sourceValue);
+        }
+
+        /**
+         * 타입 쌍에 대한 변환 함수를 미리 찾아 둔 변환기 반환 ({@link FieldMappers#find(Class, Class)}의 결과로 사용)
+         */
+        FieldMapper bind(Class<?> sourceType, Class<?> destinationType) {
+            final Function<Object, Object> converter = TypeConverters.find(sourceType, destinationType);
+            return new FieldMapper() {
+
+                @Override
+                public boolean match(Class<?> s, Class<?> d) {
+                    return s == sourceType && d == destinationType;
+                }
+
+                @Override
+                public Object map(Object sourceValue, Class<?> d) {
+                    return converter.apply(sourceValue);
+                }
+            };
+        }
+    }
+
+    private static boolean isNumberConvertible(Class<?> sourceType, Class<?> destinationType) {
+        return destinationType != null
+                && Number.class.isAssignableFrom(sourceType)
+                && Number.class.isAssignableFrom(destinationType)
+                && TypeConverters.find(sourceType, destinationType) != null;
+    }
+}
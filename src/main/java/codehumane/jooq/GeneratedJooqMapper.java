@@ -0,0 +1,34 @@
+package codehumane.jooq;
+
+import org.jooq.Record;
+
+/**
+ * {@link JooqMapped} Pojo에 대해 컴파일 시점에 생성된 변환기<br/>
+ * Record의 타입이 있는 getter/setter와 Pojo 필드(또는 생성자)에 직접 접근하고, {@link codehumane.common.Encodable} 변환도 코드로 풀어 둔다.
+ * 직접 구현하지 않으며, 생성된 구현체는 {@link GeneratedJooqMappers}가 찾는다.
+ *
+ * @param <P> Pojo 타입
+ * @param <R> 테이블의 Record 타입
+ */
+public interface GeneratedJooqMapper<P, R extends Record> {
+
+    /**
+     * @return 변환할 수 있는 Record 타입 (이 타입의 Record에만 사용)
+     */
+    Class<R> getRecordType();
+
+    /**
+     * Record를 새 Pojo로 변환 (값이 null인 필드는 할당하지 않음)
+     */
+    P map(R record);
+
+    /**
+     * Record의 값을 기존 Pojo에 할당 (final 필드는 제외)
+     */
+    void map(R record, P destination);
+
+    /**
+     * Pojo의 값을 Record에 할당 (값이 null이어도 할당하므로 changed 상태가 됨)
+     */
+    void unmap(P source, R record);
+}
@@ -0,0 +1,91 @@
+package codehumane.jooq;
+
+import codehumane.common.ReflectionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Record;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+
+/**
+ * {@link JooqMapped} Pojo의 생성된 변환기({@link GeneratedJooqMapper}) 조회와, 생성된 코드가 사용하는 값 변환<br/>
+ * 변환기는 `{Pojo 클래스 이름}_JooqMapper`(중첩 클래스는 `$` 대신 `_`)라는 이름으로 Pojo와 같은 패키지에 생성된다.
+ * 클래스마다 한 번만 찾으며 {@link ClassValue}에 보관하므로 클래스를 붙잡지 않는다.
+ */
+@Slf4j
+public final class GeneratedJooqMappers {
+
+    static final String SUFFIX = "_JooqMapper";
+
+    private static final ClassValue<Optional<GeneratedJooqMapper<Object, Record>>> mappers =
+            new ClassValue<Optional<GeneratedJooqMapper<Object, Record>>>() {
+
+                @Override
+                protected Optional<GeneratedJooqMapper<Object, Record>> computeValue(Class<?> pojoType) {
+                    return Optional.ofNullable(load(pojoType));
+                }
+            };
+
+    private GeneratedJooqMappers() {
+    }
+
+    /**
+     * @param pojoType Pojo 클래스
+     * @return 생성된 변환기 (없으면 null)
+     */
+    static GeneratedJooqMapper<Object, Record> find(Class<?> pojoType) {
+        return mappers.get(pojoType).orElse(null);
+    }
+
+    /**
+     * @param pojoType Pojo 클래스
+     * @return 생성된 변환기의 클래스 이름
+     */
+    static String generatedNameOf(Class<?> pojoType) {
+        final String name = pojoType.getName();
+        final int packageEnd = name.lastIndexOf('.');
+        return name.substring(0, packageEnd + 1) + name.substring(packageEnd + 1).replace('$', '_') + SUFFIX;
+    }
+
+    /**
+     * 생성된 코드가 직접 변환할 수 없는 타입 쌍의 값을 {@link FieldMappers#defaults()}로 변환
+     *
+     * @param value 값 (null 아님)
+     * @param type  변환할 타입 (primitive 타입은 wrapper로 전달)
+     * @return 변환된 값
+     */
+    public static <T> T convert(Object value, Class<T> type) {
+        final FieldMapper fieldMapper = FieldMappers.defaults().find(value.getClass(), type);
+        if (fieldMapper == null) {
+            throw new JooqRecordMappingException(String.format(
+                    "임시 예외 반환: Name matched but type not matched. [%s]", type.getName()));
+        }
+
+        return type.cast(fieldMapper.map(value, type));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static GeneratedJooqMapper<Object, Record> load(Class<?> pojoType) {
+        if (pojoType.getClassLoader() == null || pojoType.isPrimitive() || pojoType.isArray())
+            return null;
+
+        final Class<?> generatedType;
+        try {
+            generatedType = Class.forName(generatedNameOf(pojoType), true, pojoType.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+
+        if (!GeneratedJooqMapper.class.isAssignableFrom(generatedType)) {
+            log.warn("Not a generated mapper({}) for {}.", generatedType, pojoType);
+            return null;
+        }
+
+        try {
+            return (GeneratedJooqMapper<Object, Record>) ReflectionUtil.constructByDefault(generatedType);
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException
+                | InvocationTargetException e) {
+            throw new JooqRecordMappingException("Failed instantiation", e);
+        }
+    }
+}
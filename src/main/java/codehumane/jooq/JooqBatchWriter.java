@@ -0,0 +1,183 @@
+package codehumane.jooq;
+
+import codehumane.common.Identifiable;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.TableRecord;
+import org.jooq.UpdatableRecord;
+import org.jooq.impl.DSL;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * 다수의 Pojo를 Jooq의 batch 실행으로 저장 (보다 자세한 내용과 쓰임은 JooqBatchWriterTest 참고)<br/>
+ * Pojo를 chunk 크기만큼 {@link TableRecord}로 변환한 뒤 한 번의 batch로 실행한다.
+ * INSERT에 사용하는 Record들은 chunk마다 새로 만들지 않고 재사용한다.
+ */
+@Slf4j
+public class JooqBatchWriter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final DSLContext dslContext;
+    private final JooqPojoToRecordMapper mapper;
+    private final int chunkSize;
+    private final boolean commitPerChunk;
+
+    public JooqBatchWriter(DSLContext dslContext) {
+        this(dslContext, DEFAULT_CHUNK_SIZE, false);
+    }
+
+    /**
+     * @param dslContext     batch를 실행할 DSLContext
+     * @param chunkSize      한 번의 batch로 실행할 Pojo 수
+     * @param commitPerChunk chunk마다 별도 트랜잭션으로 commit할지 여부 (false면 호출한 쪽의 트랜잭션을 따름)
+     */
+    public JooqBatchWriter(DSLContext dslContext, int chunkSize, boolean commitPerChunk) {
+        this(dslContext, new JooqPojoToRecordMapper(), chunkSize, commitPerChunk);
+    }
+
+    /**
+     * @param dslContext     batch를 실행할 DSLContext
+     * @param chunkSize      한 번의 batch로 실행할 Pojo 수
+     * @param commitPerChunk chunk마다 별도 트랜잭션으로 commit할지 여부 (false면 호출한 쪽의 트랜잭션을 따름)
+     * @param snapshots      Pojo의 변환 직후 값 기록 ({@link #updateAll(Iterable, Table)} 시 달라진 필드만 UPDATE,
+     *                       {@link #insertAll(Iterable, Table)}은 기록과 관계없이 모든 필드를 INSERT)
+     */
+    public JooqBatchWriter(DSLContext dslContext, int chunkSize, boolean commitPerChunk, PojoSnapshots snapshots) {
+        this(dslContext, new JooqPojoToRecordMapper(FieldMappers.defaults(), snapshots), chunkSize, commitPerChunk);
+    }
+
+    JooqBatchWriter(DSLContext dslContext, JooqPojoToRecordMapper mapper, int chunkSize, boolean commitPerChunk) {
+        if (chunkSize < 1)
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+
+        this.dslContext = dslContext;
+        this.mapper = mapper;
+        this.chunkSize = chunkSize;
+        this.commitPerChunk = commitPerChunk;
+    }
+
+    /**
+     * Pojo들을 INSERT ({@link DSLContext#batchInsert(TableRecord[])})
+     *
+     * @param sources 저장할 Pojo들
+     * @param table   대상 테이블
+     * @return 저장한 Pojo 수
+     */
+    public <S extends Identifiable<?>, R extends TableRecord<R>> int insertAll(Iterable<S> sources, Table<R> table) {
+        return writeAll(sources.iterator(), table, true, (context, records) -> context.batchInsert(records).execute());
+    }
+
+    /**
+     * @see #insertAll(Iterable, Table)
+     */
+    public <S extends Identifiable<?>, R extends TableRecord<R>> int insertAll(Stream<S> sources, Table<R> table) {
+        return writeAll(sources.iterator(), table, true, (context, records) -> context.batchInsert(records).execute());
+    }
+
+    /**
+     * Pojo들을 primary key 기준으로 UPDATE ({@link DSLContext#batchUpdate(UpdatableRecord[])})<br/>
+     * Pojo에서 새로 만든 Record는 Jooq 입장에서 항상 새 Record이므로, `batchStore`를 사용하면 모두 INSERT로 실행된다.
+     * 따라서 이미 저장된 Pojo를 갱신할 때는 이 메소드를 사용한다.
+     *
+     * @param sources 갱신할 Pojo들
+     * @param table   대상 테이블
+     * @return 갱신을 시도한 Pojo 수
+     */
+    public <S extends Identifiable<?>, R extends UpdatableRecord<R>> int updateAll(Iterable<S> sources, Table<R> table) {
+        return writeAll(sources.iterator(), table, false, (context, records) -> context.batchUpdate(records).execute());
+    }
+
+    /**
+     * @see #updateAll(Iterable, Table)
+     */
+    public <S extends Identifiable<?>, R extends UpdatableRecord<R>> int updateAll(Stream<S> sources, Table<R> table) {
+        return writeAll(sources.iterator(), table, false, (context, records) -> context.batchUpdate(records).execute());
+    }
+
+    private <S extends Identifiable<?>, R extends TableRecord<R>> int writeAll(
+            Iterator<S> sources, Table<R> table, boolean insert, BiConsumer<DSLContext, R[]> batch) {
+
+        final R[] records = newRecords(table, insert);
+        int written = 0;
+        int size = 0;
+
+        while (sources.hasNext()) {
+            final R record;
+            if (insert) {
+                record = records[size++];
+                record.changed(false); // 재사용하는 Record이므로 이전 chunk의 changed 상태를 초기화
+            } else {
+                record = records[size++] = dslContext.newRecord(table);
+            }
+            mapper.map(sources.next(), record, !insert); // INSERT는 기록과 관계없이 모든 필드를 할당
+            if (!insert)
+                resetOriginals(record);
+
+            if (size == records.length) {
+                flush(records, batch);
+                written += size;
+                size = 0;
+            }
+        }
+
+        if (size > 0) {
+            flush(Arrays.copyOf(records, size), batch);
+            written += size;
+        }
+
+        log.debug("batch write finished. table: {}, written: {}", table, written);
+        return written;
+    }
+
+    /**
+     * Pojo 클래스와 Record 형태에 대한 쓰기 계획을 미리 생성 ({@link JooqMappingWarmUp} 용도)
+     *
+     * @param sourceType Pojo 클래스
+     * @param record     쓰기 대상과 같은 형태의 Record
+     * @return 쓰기 계획
+     */
+    RecordWritePlan prepare(Class<?> sourceType, Record record) {
+        return mapper.getPlan(sourceType, record);
+    }
+
+    // updatablePrimaryKeys 설정에서는 UPDATE 대상을 original의 primary key로 찾으므로, 할당한 값을 original에도 복사 (changed 상태는 유지)
+    private static void resetOriginals(Record record) {
+        for (int i = 0, size = record.size(); i < size; i++) {
+            if (record.changed(i)) {
+                record.changed(i, false); // original에 현재 값을 복사
+                record.changed(i, true);
+            }
+        }
+    }
+
+    // UPDATE는 Record의 original 값을 사용하므로 (updatablePrimaryKeys 설정의 조건, primary key 변경 여부 판단)
+    // 이전 Pojo의 값이 original로 남지 않도록 Record를 재사용하지 않고 Pojo마다 새로 만듦
+    @SuppressWarnings("unchecked")
+    private <R extends TableRecord<R>> R[] newRecords(Table<R> table, boolean reused) {
+        final R[] records = (R[]) Array.newInstance(table.getRecordType(), chunkSize);
+        if (!reused)
+            return records;
+
+        for (int i = 0; i < records.length; i++) {
+            records[i] = dslContext.newRecord(table);
+        }
+
+        return records;
+    }
+
+    private <R extends TableRecord<R>> void flush(R[] records, BiConsumer<DSLContext, R[]> batch) {
+        if (commitPerChunk) {
+            dslContext.transaction(configuration -> batch.accept(DSL.using(configuration), records));
+        } else {
+            batch.accept(dslContext, records);
+        }
+    }
+}
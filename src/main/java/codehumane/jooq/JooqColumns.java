@@ -0,0 +1,297 @@
+package codehumane.jooq;
+
+import codehumane.common.EncodableCodeTable;
+import org.jooq.Record;
+import org.springframework.util.ClassUtils;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Record들을 행마다의 Pojo 대신 Pojo 필드마다 하나의 배열로 모은 열(column) 단위 결과 (struct of arrays)<br/>
+ * 몇 개의 숫자 컬럼만 집계하는 대량 조회에서 행마다 Pojo와 boxing된 값을 보관하지 않기 위한 용도.
+ * 열은 Pojo 클래스의 필드 중 이름이 매칭되는 Record 필드가 있는 것들이며 (매칭 규칙은 Pojo 변환과 동일), 필드 타입에 따라 다음 배열에 담긴다.
+ * <ul>
+ * <li>long, Long → long[]</li>
+ * <li>int, short, byte와 wrapper → int[]</li>
+ * <li>double, float와 wrapper → double[]</li>
+ * <li>Encodable enum → 상수의 ordinal을 담은 int[] (null이면 -1)</li>
+ * <li>그 외 → Object[]</li>
+ * </ul>
+ * 값이 null인 행은 열마다의 {@link BitSet}에 표시되며, 숫자 배열의 해당 위치에는 0이 담긴다.
+ * 반환되는 배열은 복사본이 아니므로 수정하지 않는다. (생성은 {@link CachedJooqRecordToPojoMapper#mapColumns(org.jooq.Result, Class)} 참고)
+ *
+ * @param <D> 열 구성을 정하는 Pojo 타입
+ */
+public final class JooqColumns<D> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final Class<D> type;
+    private final Map<String, Column> columnsByName; // Pojo 필드 이름 → 열 (필드 선언 순서)
+    private final Column[] columns; // 행마다 순회하므로 iterator를 만들지 않도록 배열로도 보관
+    private int size;
+
+    /**
+     * @param type         열 구성을 정하는 Pojo 타입
+     * @param sourceFields Record의 필드 구성
+     * @param fieldMappers 값 변환에 사용할 변환기 목록
+     * @param capacity     예상 행 수 (부족하면 배열을 늘림)
+     */
+    JooqColumns(Class<D> type, org.jooq.Field<?>[] sourceFields, FieldMappers fieldMappers, int capacity) {
+        this.type = type;
+        this.columnsByName = new LinkedHashMap<>();
+
+        final Map<String, int[]> index = JooqFieldTokenMatcher.indexJooqFields(sourceFields);
+        final int initialCapacity = Math.max(capacity, MIN_CAPACITY);
+        for (ClassMetadata.FieldMetadata field : ClassMetadata.of(type).getFields()) {
+            // 같은 key의 Record 필드가 여럿이면 Pojo 변환과 마찬가지로 마지막 필드를 사용
+            final int[] indexes = JooqFieldTokenMatcher.matchingIndexes(index, field);
+            if (indexes.length == 0)
+                continue;
+
+            final int sourceIndex = indexes[indexes.length - 1];
+            columnsByName.put(field.getField().getName(), new Column(
+                    sourceIndex, sourceFields[sourceIndex], field, fieldMappers, initialCapacity));
+        }
+
+        this.columns = columnsByName.values().toArray(new Column[columnsByName.size()]);
+    }
+
+    /**
+     * Record 하나를 다음 행으로 추가
+     *
+     * @param record 생성 시점의 필드 구성과 같은 Record
+     */
+    void add(Record record) {
+        for (Column column : columns) {
+            column.add(record, size);
+        }
+
+        size++;
+    }
+
+    /**
+     * 행 수에 맞게 배열의 여유 공간을 제거 (모든 행을 추가한 뒤 한 번 호출)
+     */
+    void trim() {
+        for (Column column : columns) {
+            column.resize(size);
+        }
+    }
+
+    public Class<D> getType() {
+        return type;
+    }
+
+    /**
+     * @return 행 수 (배열의 길이)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 열로 만들어진 Pojo 필드 이름 (필드 선언 순서)
+     */
+    public Set<String> getFieldNames() {
+        return Collections.unmodifiableSet(columnsByName.keySet());
+    }
+
+    /**
+     * @param fieldName long 또는 Long 타입의 Pojo 필드 이름
+     * @return 행 순서대로의 값 (null인 행은 0)
+     */
+    public long[] getLongs(String fieldName) {
+        return column(fieldName, Kind.LONG).longs;
+    }
+
+    /**
+     * @param fieldName int, short, byte 또는 wrapper 타입의 Pojo 필드 이름
+     * @return 행 순서대로의 값 (null인 행은 0)
+     */
+    public int[] getInts(String fieldName) {
+        return column(fieldName, Kind.INT).ints;
+    }
+
+    /**
+     * @param fieldName double, float 또는 wrapper 타입의 Pojo 필드 이름
+     * @return 행 순서대로의 값 (null인 행은 0)
+     */
+    public double[] getDoubles(String fieldName) {
+        return column(fieldName, Kind.DOUBLE).doubles;
+    }
+
+    /**
+     * @param fieldName Encodable enum 타입의 Pojo 필드 이름
+     * @return 행 순서대로의 상수 ordinal (null이거나 code에 해당하는 상수가 없는 행은 -1)
+     */
+    public int[] getOrdinals(String fieldName) {
+        return column(fieldName, Kind.ORDINAL).ints;
+    }
+
+    /**
+     * @param fieldName 숫자나 Encodable enum이 아닌 타입의 Pojo 필드 이름
+     * @return 행 순서대로의 값 (Pojo 필드 타입으로 변환된 값)
+     */
+    public Object[] getObjects(String fieldName) {
+        return column(fieldName, Kind.OBJECT).objects;
+    }
+
+    /**
+     * @param fieldName Pojo 필드 이름
+     * @return 값이 null인 행의 위치
+     */
+    public BitSet getNulls(String fieldName) {
+        return column(fieldName, null).nulls;
+    }
+
+    /**
+     * @param fieldName Pojo 필드 이름
+     * @param row       행 위치
+     * @return 값이 null인지 여부
+     */
+    public boolean isNull(String fieldName, int row) {
+        return column(fieldName, null).nulls.get(row);
+    }
+
+    private Column column(String fieldName, Kind kind) {
+        final Column column = columnsByName.get(fieldName);
+        if (column == null)
+            throw new JooqRecordMappingException("No column for field: " + fieldName);
+        if (kind != null && column.kind != kind)
+            throw new JooqRecordMappingException(String.format(
+                    "Column kind not matched. [%s: %s]", fieldName, column.kind));
+
+        return column;
+    }
+
+
+    private enum Kind {
+        LONG, INT, DOUBLE, ORDINAL, OBJECT;
+
+        static Kind of(Class<?> fieldType) {
+            final Class<?> boxed = ClassUtils.resolvePrimitiveIfNecessary(fieldType);
+            if (boxed == Long.class)
+                return LONG;
+            if (boxed == Integer.class || boxed == Short.class || boxed == Byte.class)
+                return INT;
+            if (boxed == Double.class || boxed == Float.class)
+                return DOUBLE;
+            if (EncodableCodeTable.isEncodableEnum(fieldType))
+                return ORDINAL;
+
+            return OBJECT;
+        }
+    }
+
+
+    /**
+     * Pojo 필드 하나에 대응되는 열<br/>
+     * Pojo 필드가 int, long, double(와 wrapper)이고 Record 필드의 값이 그 타입으로 손실 없이 옮겨질 수 있는 타입이면
+     * 변환기를 거치지 않고 바로 배열에 담는다. short, byte, float 필드는 범위와 정밀도를 검사하도록 변환기를 거친다.
+     */
+    private static final class Column {
+
+        private final Kind kind;
+        private final int sourceIndex;
+        private final boolean direct; // 변환기 없이 Number 값을 그대로 담을 수 있는지 여부
+        private final ConversionCache conversionCache;
+        private final BitSet nulls = new BitSet();
+
+        private long[] longs;
+        private int[] ints;
+        private double[] doubles;
+        private Object[] objects;
+
+        Column(int sourceIndex, org.jooq.Field<?> source, ClassMetadata.FieldMetadata target,
+               FieldMappers fieldMappers, int capacity) {
+
+            final Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(target.getType());
+            this.kind = Kind.of(targetType);
+            this.sourceIndex = sourceIndex;
+            this.direct = fieldMappers == FieldMappers.defaults() && isWidening(source.getType(), targetType);
+            this.conversionCache = new ConversionCache(
+                    fieldMappers, targetType, target.getField().getName(), source.getType());
+            resize(capacity);
+        }
+
+        private static boolean isWidening(Class<?> sourceType, Class<?> targetType) {
+            final boolean integral = sourceType == Byte.class || sourceType == Short.class || sourceType == Integer.class;
+            if (targetType == Long.class)
+                return integral || sourceType == Long.class;
+            if (targetType == Integer.class)
+                return integral;
+            if (targetType == Double.class)
+                return integral || sourceType == Float.class || sourceType == Double.class;
+
+            return false;
+        }
+
+        void add(Record record, int row) {
+            if (row == capacity())
+                resize(Math.max(MIN_CAPACITY, row + (row >> 1)));
+
+            final Object sourceValue = record.get(sourceIndex);
+            final Object value = sourceValue == null || direct ? sourceValue : conversionCache.map(sourceValue);
+            if (value == null) {
+                nulls.set(row);
+                if (kind == Kind.ORDINAL)
+                    ints[row] = -1;
+                return;
+            }
+
+            switch (kind) {
+                case LONG:
+                    longs[row] = ((Number) value).longValue();
+                    break;
+                case INT:
+                    ints[row] = ((Number) value).intValue();
+                    break;
+                case DOUBLE:
+                    doubles[row] = ((Number) value).doubleValue();
+                    break;
+                case ORDINAL:
+                    ints[row] = ((Enum<?>) value).ordinal();
+                    break;
+                default:
+                    objects[row] = value;
+            }
+        }
+
+        private int capacity() {
+            switch (kind) {
+                case LONG:
+                    return longs.length;
+                case INT:
+                case ORDINAL:
+                    return ints.length;
+                case DOUBLE:
+                    return doubles.length;
+                default:
+                    return objects.length;
+            }
+        }
+
+        void resize(int capacity) {
+            switch (kind) {
+                case LONG:
+                    longs = longs == null ? new long[capacity] : Arrays.copyOf(longs, capacity);
+                    break;
+                case INT:
+                case ORDINAL:
+                    ints = ints == null ? new int[capacity] : Arrays.copyOf(ints, capacity);
+                    break;
+                case DOUBLE:
+                    doubles = doubles == null ? new double[capacity] : Arrays.copyOf(doubles, capacity);
+                    break;
+                default:
+                    objects = objects == null ? new Object[capacity] : Arrays.copyOf(objects, capacity);
+            }
+        }
+    }
+}
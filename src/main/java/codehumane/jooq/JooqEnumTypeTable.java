@@ -0,0 +1,83 @@
+package codehumane.jooq;
+
+import codehumane.common.Encodable;
+import org.jooq.EnumType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link Encodable} 상수 → {@link EnumType} 상수 변환표<br/>
+ * Encodable의 code(String)와 같은 이름을 가진 EnumType 상수를 (Encodable 클래스, EnumType 클래스) 쌍마다 한 번만 찾아 둔다.
+ */
+final class JooqEnumTypeTable {
+
+    private static final ClassValue<ConcurrentMap<Class<?>, JooqEnumTypeTable>> tables =
+            new ClassValue<ConcurrentMap<Class<?>, JooqEnumTypeTable>>() {
+
+                @Override
+                protected ConcurrentMap<Class<?>, JooqEnumTypeTable> computeValue(Class<?> encodableType) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    @SuppressWarnings("rawtypes")
+    private final Class<? extends Enum> enumType;
+    private final Map<?, Enum<?>> byEncodable;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private JooqEnumTypeTable(Class<? extends Enum> encodableType, Class<? extends Enum> enumType) {
+        final EnumMap byEncodable = new EnumMap(encodableType);
+        for (Enum<?> encodable : encodableType.getEnumConstants()) {
+            final Object code = ((Encodable<?>) encodable).getCode();
+            final Enum<?> matched = findByName(enumType, code);
+            if (matched != null)
+                byEncodable.put(encodable, matched);
+        }
+
+        this.enumType = enumType;
+        this.byEncodable = byEncodable;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Enum<?> findByName(Class<? extends Enum> enumType, Object name) {
+        for (Enum<?> constant : enumType.getEnumConstants()) {
+            if (constant.name().equals(name))
+                return constant;
+        }
+
+        return null;
+    }
+
+    /**
+     * @param encodableType Encodable enum 클래스
+     * @param enumType      {@link EnumType}을 구현한 enum 클래스
+     * @return 변환표
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static JooqEnumTypeTable of(Class<?> encodableType, Class<?> enumType) {
+        return tables
+                .get(encodableType)
+                .computeIfAbsent(enumType, t -> new JooqEnumTypeTable(
+                        (Class<? extends Enum>) encodableType, (Class<? extends Enum>) t));
+    }
+
+    /**
+     * Encodable 상수에 대응하는 {@link EnumType} 상수 반환
+     *
+     * @param encodable Encodable 상수
+     * @return EnumType 상수
+     * @throws IllegalArgumentException code와 같은 이름의 상수가 없는 경우 ({@link Enum#valueOf(Class, String)}와 동일)
+     */
+    @SuppressWarnings("unchecked")
+    Object encode(Enum<?> encodable) {
+        final Enum<?> matched = byEncodable.get(encodable);
+        if (matched != null)
+            return matched;
+
+        // 대응되는 상수가 없으면 이전과 같은 예외가 발생하도록 Enum.valueOf에 위임
+        return Enum.valueOf(enumType, (String) ((Encodable<?>) encodable).getCode());
+    }
+}
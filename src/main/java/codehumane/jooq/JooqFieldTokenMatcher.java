@@ -1,62 +1,250 @@
 package codehumane.jooq;
 
 import java.lang.reflect.Field;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 class JooqFieldTokenMatcher {
 
-    private static final NumberIgnoreCamelCaseTokenizer camelCaseTokenizer = new NumberIgnoreCamelCaseTokenizer();
-    private static final UnderscoreTokenizer underscoreTokenizer = new UnderscoreTokenizer();
+    private static final char TOKEN_SEPARATOR = '_';
+    private static final int[] NO_INDEXES = new int[0];
 
     /**
      * Jooq Record의 필드명 형태(underscore)와 자바의 클래스 필드명 형태(camelcase)가 다르기 때문에, <br/>
-     * 이름을 토큰으로 분해한 후 매칭여부를 결정한다.
+     * 이름을 토큰으로 분해한 후 매칭여부를 결정한다. <br/>
+     * 토큰 배열을 만드는 대신 양쪽 이름을 같은 형태의 key로 정규화하여 비교한다. (토큰을 소문자로 바꾸어 `_`로 이은 문자열)
      *
      * @param jooqField Jooq Record의 필드
      * @param pojoField Java Pojo의 필드
      * @return 매칭 여부
      */
     static boolean match(org.jooq.Field<?> jooqField, Field pojoField) {
-        final String[] pojoTokens = camelCaseTokenizer.tokenize(pojoField.getName());
-        final String[] jooqTokens = underscoreTokenizer.tokenize(
-                jooqField.getName().toLowerCase());
+        final String pojoKey = normalize(pojoField);
+        return pojoKey != null && pojoKey.equals(normalize(jooqField));
+    }
 
-        if (jooqTokens.length != pojoTokens.length)
-            return false;
+    /**
+     * Jooq Record 필드명을 key로 정규화 (underscore 토큰 분해와 동일하게 끝의 `_`는 무시)
+     *
+     * @param jooqField Jooq Record의 필드
+     * @return 정규화된 key
+     */
+    static String normalize(org.jooq.Field<?> jooqField) {
+        return normalizeJooqName(jooqField.getName());
+    }
 
-        for (int i = 0; i < jooqTokens.length; i++) {
-            if (!jooqTokens[i].equalsIgnoreCase(pojoTokens[i]))
-                return false;
+    /**
+     * Jooq 형태(underscore)의 이름을 key로 정규화 (테이블 이름처럼 필드가 아닌 이름에 사용)
+     *
+     * @param name underscore 이름
+     * @return 정규화된 key
+     * @see #normalize(org.jooq.Field)
+     */
+    static String normalizeJooqName(String name) {
+        int end = name.length();
+        while (end > 0 && name.charAt(end - 1) == TOKEN_SEPARATOR) {
+            end--;
         }
 
-        return true;
+        final StringBuilder key = new StringBuilder(end);
+        for (int i = 0; i < end; i++) {
+            key.append(Character.toLowerCase(name.charAt(i)));
+        }
+
+        return key.toString();
     }
 
     /**
-     * 숫자는 tokenize 기준으로 삼지 않는 camel case tokenizer
+     * Java Pojo 필드명을 camel case 토큰 분해와 같은 기준으로 key로 정규화<br/>
+     * underscore 토큰에는 `_`가 포함될 수 없으므로, 이름에 `_`가 있는 필드는 어떤 Jooq 필드와도 매칭되지 않는다.
+     *
+     * @param pojoField Java Pojo의 필드
+     * @return 정규화된 key (매칭될 수 없는 이름이면 null)
      */
-    static class NumberIgnoreCamelCaseTokenizer {
+    static String normalize(Field pojoField) {
+        return normalizePojoName(pojoField.getName());
+    }
 
-        private static final String UPPER_AND_UPPER_LOWER = "(?<=[A-Z])(?=[A-Z][a-z0-9])"; // 예시) UFile -> [U,File], UpU1 -> [Up,U1]
-        private static final String NON_UPPER_AND_UPPER = "(?<=[^A-Z])(?=[A-Z])"; // 예시) uP -> [u,P], u1P -> [u1,P]
-        private static final String ETC = "(?<=[A-Za-z0-9])(?=[^A-Za-z0-9])"; // 예시) up_1 -> [up,_1]
-        private static final Pattern camelCase = Pattern.compile(
-                String.format("%s|%s|%s", UPPER_AND_UPPER_LOWER, NON_UPPER_AND_UPPER, ETC));
+    /**
+     * Java Pojo 형태(camel case)의 이름을 key로 정규화 (생성자 파라미터처럼 필드가 아닌 이름에 사용)
+     *
+     * @param name camel case 이름
+     * @return 정규화된 key (매칭될 수 없는 이름이면 null)
+     * @see #normalize(Field)
+     */
+    static String normalizePojoName(String name) {
+        final StringBuilder key = new StringBuilder(name.length() + 4);
 
-        String[] tokenize(String name) {
-            return camelCase.split(name);
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (c == TOKEN_SEPARATOR)
+                return null;
+
+            if (NumberIgnoreCamelCaseTokenizer.isBoundary(name, i))
+                key.append(TOKEN_SEPARATOR);
+
+            key.append(Character.toLowerCase(c));
         }
+
+        return key.toString();
     }
 
     /**
-     * underscore tokenizer
+     * Jooq 필드들을 정규화된 key로 색인 (Pojo 필드와의 매칭을 이중 루프 대신 key 조회로 수행하기 위함)
+     *
+     * @param jooqFields Jooq Record의 필드 목록
+     * @return key → 해당 key를 가진 Jooq 필드의 위치 목록 (필드 순서 유지)
      */
-    static class UnderscoreTokenizer {
+    static Map<String, int[]> indexJooqFields(org.jooq.Field<?>[] jooqFields) {
+        final Map<String, int[]> index = new HashMap<>(jooqFields.length * 2);
+
+        for (int i = 0; i < jooqFields.length; i++) {
+            final int position = i;
+            index.merge(normalize(jooqFields[i]), new int[]{i}, (existing, added) -> {
+                final int[] merged = Arrays.copyOf(existing, existing.length + 1);
+                merged[existing.length] = position;
+                return merged;
+            });
+        }
 
-        private static final Pattern underscore = Pattern.compile("_");
+        return index;
+    }
+
+    /**
+     * Pojo 필드들을 정규화된 key로 색인 (매칭될 수 없는 이름의 필드는 제외)
+     *
+     * @param pojoFields Java Pojo의 필드 목록
+     * @return key → 해당 key를 가진 Pojo 필드 목록 (필드 순서 유지)
+     */
+    static Map<String, List<Field>> indexPojoFields(List<Field> pojoFields) {
+        final Map<String, List<Field>> index = new LinkedHashMap<>(pojoFields.size() * 2);
+
+        for (Field pojoField : pojoFields) {
+            final String key = normalize(pojoField);
+            if (key != null)
+                index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(pojoField);
+        }
+
+        return index;
+    }
+
+    /**
+     * @param index     {@link #indexJooqFields(org.jooq.Field[])}의 결과
+     * @param pojoField Java Pojo의 필드
+     * @return Pojo 필드와 매칭되는 Jooq 필드의 위치 목록
+     */
+    static int[] matchingIndexes(Map<String, int[]> index, Field pojoField) {
+        return matchingIndexes(index, pojoField.getName());
+    }
+
+    /**
+     * @param index    {@link #indexJooqFields(org.jooq.Field[])}의 결과
+     * @param pojoName Java Pojo 형태의 이름 (생성자 파라미터 이름 등)
+     * @return 이름과 매칭되는 Jooq 필드의 위치 목록
+     */
+    static int[] matchingIndexes(Map<String, int[]> index, String pojoName) {
+        return matchingIndexesByKey(index, normalizePojoName(pojoName));
+    }
+
+    /**
+     * @param index     {@link #indexJooqFields(org.jooq.Field[])}의 결과
+     * @param pojoField Java Pojo의 필드 정보 (key를 다시 정규화하지 않음)
+     * @return Pojo 필드와 매칭되는 Jooq 필드의 위치 목록
+     */
+    static int[] matchingIndexes(Map<String, int[]> index, ClassMetadata.FieldMetadata pojoField) {
+        return matchingIndexesByKey(index, pojoField.getKey());
+    }
+
+    private static int[] matchingIndexesByKey(Map<String, int[]> index, String key) {
+        final int[] indexes = key == null ? null : index.get(key);
+        return indexes == null ? NO_INDEXES : indexes;
+    }
+
+    /**
+     * @param index     {@link #indexPojoFields(List)}의 결과
+     * @param jooqField Jooq Record의 필드
+     * @return Jooq 필드와 매칭되는 Pojo 필드 목록
+     */
+    static List<Field> matchingFields(Map<String, List<Field>> index, org.jooq.Field<?> jooqField) {
+        final List<Field> fields = index.get(normalize(jooqField));
+        return fields == null ? Collections.emptyList() : fields;
+    }
+
+    /**
+     * @param metadata  Java Pojo 클래스의 필드 정보 (필드 key가 미리 정규화되어 있음)
+     * @param jooqField Jooq Record의 필드
+     * @return Jooq 필드와 매칭되는 Pojo 필드 목록
+     */
+    static List<ClassMetadata.FieldMetadata> matchingFields(ClassMetadata metadata, org.jooq.Field<?> jooqField) {
+        return metadata.getFields(normalize(jooqField));
+    }
+
+    /**
+     * 숫자는 tokenize 기준으로 삼지 않는 camel case tokenizer
+     */
+    static class NumberIgnoreCamelCaseTokenizer {
 
         String[] tokenize(String name) {
-            return underscore.split(name);
+            final List<String> tokens = new ArrayList<>();
+
+            int start = 0;
+            for (int i = 1; i < name.length(); i++) {
+                if (isBoundary(name, i)) {
+                    tokens.add(name.substring(start, i));
+                    start = i;
+                }
+            }
+            tokens.add(name.substring(start));
+
+            return tokens.toArray(new String[tokens.size()]);
+        }
+
+        /**
+         * `i`번째 문자 앞에서 토큰이 나뉘는지 여부
+         * <ul>
+         * <li>대문자 뒤에 대문자+소문자(또는 숫자)가 오는 경우. 예시) UFile -> [U,File], UpU1 -> [Up,U1]</li>
+         * <li>대문자가 아닌 문자 뒤에 대문자가 오는 경우. 예시) uP -> [u,P], u1P -> [u1,P]</li>
+         * <li>영문자나 숫자 뒤에 그 외의 문자가 오는 경우. 예시) up_1 -> [up,_1]</li>
+         * </ul>
+         */
+        static boolean isBoundary(String name, int i) {
+            if (i <= 0 || i >= name.length())
+                return false;
+
+            final char previous = name.charAt(i - 1);
+            final char current = name.charAt(i);
+
+            if (isUpper(previous) && isUpper(current) && i + 1 < name.length()) {
+                final char next = name.charAt(i + 1);
+                if (isLower(next) || isDigit(next))
+                    return true;
+            }
+
+            if (!isUpper(previous) && isUpper(current))
+                return true;
+
+            return isAlphanumeric(previous) && !isAlphanumeric(current);
+        }
+
+        private static boolean isUpper(char c) {
+            return c >= 'A' && c <= 'Z';
+        }
+
+        private static boolean isLower(char c) {
+            return c >= 'a' && c <= 'z';
+        }
+
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+
+        private static boolean isAlphanumeric(char c) {
+            return isUpper(c) || isLower(c) || isDigit(c);
         }
     }
 }
@@ -0,0 +1,26 @@
+package codehumane.jooq;
+
+import org.jooq.Table;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Pojo와 짝이 되는 Jooq 테이블 지정<br/>
+ * jooq-record-mapper-processor를 annotation processor로 등록하면 컴파일 시점에 `{Pojo}_JooqMapper`({@link GeneratedJooqMapper})가 생성되고,
+ * {@link CachedJooqRecordToPojoMapper}와 {@link JooqRecordUnmapper}는 테이블의 Record를 변환할 때 reflection 대신 생성된 코드를 사용한다.
+ * {@link JooqMappingWarmUp}도 이 지정을 보고 Pojo와 테이블을 짝짓는다.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JooqMapped {
+
+    /**
+     * @return 코드 생성된 테이블 클래스 (Record의 getter/setter로 값을 읽고 씀)
+     */
+    Class<? extends Table<?>> table();
+}
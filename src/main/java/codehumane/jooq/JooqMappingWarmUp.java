@@ -0,0 +1,303 @@
+package codehumane.jooq;
+
+import codehumane.common.Identifiable;
+import codehumane.common.ReflectionUtil;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Spring 컨텍스트 기동 시점에 Pojo와 Jooq 테이블 쌍의 변환 계획을 미리 생성 (자세한 내용과 쓰임은 JooqMappingWarmUpTest 참고)<br/>
+ * 배포 직후 첫 요청들이 계획 생성, 이름 매칭, 클래스 로딩 비용을 치르지 않도록 빈으로 등록해 둔다.
+ * <ul>
+ * <li>{@link #register(Class, Table)}로 명시한 쌍</li>
+ * <li>basePackages에서 찾은 {@link Identifiable} Pojo 중 {@link JooqMapped}로 테이블을 지정한 쌍</li>
+ * <li>basePackages에서 찾은 {@link Identifiable} Pojo와 {@link Table} 중 이름이 같은 쌍. 예시) TableForJooqTest ↔ table_for_jooq_test</li>
+ * </ul>
+ * 각 쌍마다 읽기/쓰기 계획을 생성하고 빈 Record로 실제 변환까지 수행하여 검증하며,
+ * 매칭되지 않은 필드와 컬럼, 실패한 쌍은 {@link Report}에 모아 경고로 남긴다.
+ * 테이블은 코드 생성된 클래스의 참조 인스턴스(static 필드)를 사용하므로, 참조 인스턴스가 없는 테이블은 명시적으로 등록해야 한다.
+ */
+@Slf4j
+public class JooqMappingWarmUp implements SmartInitializingSingleton {
+
+    private final DSLContext dslContext;
+    private final CachedJooqRecordToPojoMapper readMapper;
+    private final JooqRecordUnmapper writeMapper; // null이면 쓰기 계획은 생성하지 않음
+    private final String[] basePackages;
+    private final Map<Class<?>, Table<?>> registered = new LinkedHashMap<>();
+    private final List<JooqBatchWriter> batchWriters = new ArrayList<>();
+
+    private boolean parallel;
+    private volatile Report report;
+
+    /**
+     * @param dslContext   계획 생성에 사용할 Record를 만들 DSLContext
+     * @param readMapper   읽기 계획을 보관할 변환기 (실제 조회에 사용하는 인스턴스를 전달)
+     * @param writeMapper  쓰기 계획을 보관할 변환기 (실제 저장에 사용하는 인스턴스를 전달, null 가능)
+     * @param basePackages Pojo와 테이블을 찾을 패키지들
+     */
+    public JooqMappingWarmUp(DSLContext dslContext, CachedJooqRecordToPojoMapper readMapper,
+                             JooqRecordUnmapper writeMapper, String... basePackages) {
+
+        this.dslContext = dslContext;
+        this.readMapper = readMapper;
+        this.writeMapper = writeMapper;
+        this.basePackages = basePackages;
+    }
+
+    /**
+     * 이름으로 짝지을 수 없는 Pojo와 테이블 쌍을 등록
+     *
+     * @param pojoType Pojo 클래스
+     * @param table    테이블
+     * @return this
+     */
+    public JooqMappingWarmUp register(Class<? extends Identifiable<?>> pojoType, Table<?> table) {
+        registered.put(pojoType, table);
+        return this;
+    }
+
+    /**
+     * 쓰기 계획을 함께 생성할 {@link JooqBatchWriter} 등록<br/>
+     * JooqBatchWriter는 쓰기 계획을 인스턴스마다 보관하므로, 실제 저장에 사용하는 인스턴스를 전달한다.
+     *
+     * @param batchWriter 저장에 사용하는 JooqBatchWriter
+     * @return this
+     */
+    public JooqMappingWarmUp batchWriter(JooqBatchWriter batchWriter) {
+        batchWriters.add(batchWriter);
+        return this;
+    }
+
+    /**
+     * @param parallel 쌍들을 병렬로 처리할지 여부 (기본값 false, common pool 사용)
+     * @return this
+     */
+    public JooqMappingWarmUp parallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        run();
+    }
+
+    /**
+     * @return 마지막 실행 결과 (실행 전이면 null)
+     */
+    public Report getReport() {
+        return report;
+    }
+
+    /**
+     * 등록된 쌍과 이름으로 짝지은 쌍의 변환 계획을 생성
+     *
+     * @return 실행 결과
+     */
+    public Report run() {
+        final long started = System.nanoTime();
+
+        final Map<Class<?>, Table<?>> pairs = new LinkedHashMap<>(registered);
+        final List<Class<?>> unpairedPojos = new ArrayList<>();
+        final Map<String, Table<?>> tablesByName = scanTables();
+        for (Class<?> pojoType : scan(Identifiable.class)) {
+            if (pairs.containsKey(pojoType))
+                continue;
+
+            final JooqMapped mapped = pojoType.getAnnotation(JooqMapped.class);
+            final Table<?> table = mapped != null
+                    ? referenceInstanceOf(mapped.table())
+                    : tablesByName.get(JooqFieldTokenMatcher.normalizePojoName(pojoType.getSimpleName()));
+            if (table == null) {
+                unpairedPojos.add(pojoType);
+            } else {
+                pairs.put(pojoType, table);
+            }
+        }
+
+        final List<Table<?>> unpairedTables = new ArrayList<>(tablesByName.values());
+        unpairedTables.removeAll(pairs.values());
+
+        final Stream<Map.Entry<Class<?>, Table<?>>> entries =
+                parallel ? pairs.entrySet().parallelStream() : pairs.entrySet().stream();
+        final List<Pairing> pairings = entries
+                .map(entry -> warmUp(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+
+        final Report report = new Report(pairings, unpairedPojos, unpairedTables);
+        this.report = report;
+        log(report, System.nanoTime() - started);
+        return report;
+    }
+
+    private Pairing warmUp(Class<?> pojoType, Table<?> table) {
+        final Record record = dslContext.newRecord(table);
+        final ClassMetadata metadata = ClassMetadata.of(pojoType);
+        final Map<String, int[]> columnIndex = JooqFieldTokenMatcher.indexJooqFields(record.fields());
+
+        final List<String> unmatchedFields = metadata.getFields().stream()
+                .filter(field -> JooqFieldTokenMatcher.matchingIndexes(columnIndex, field).length == 0)
+                .map(field -> field.getField().getName())
+                .collect(Collectors.toList());
+
+        final List<String> unmatchedColumns = Stream.of(record.fields())
+                .filter(column -> JooqFieldTokenMatcher.matchingFields(metadata, column).isEmpty())
+                .map(org.jooq.Field::getName)
+                .collect(Collectors.toList());
+
+        try {
+            // 계획 생성에 더해 인스턴스 생성과 Record 할당까지 한 번 수행하여 생성자, 핸들, 변환기 문제를 미리 드러냄
+            readMapper.getPlan(record, pojoType);
+            final Object pojo = readMapper.map(record, pojoType);
+            if (writeMapper != null) {
+                writeMapper.prepare(pojoType, record);
+                writeMapper.from((Identifiable<?>) pojo, dslContext.newRecord(table));
+            }
+            for (JooqBatchWriter batchWriter : batchWriters) {
+                batchWriter.prepare(pojoType, record);
+            }
+
+            return new Pairing(pojoType, table.getName(), unmatchedFields, unmatchedColumns, null);
+        } catch (RuntimeException e) {
+            return new Pairing(pojoType, table.getName(), unmatchedFields, unmatchedColumns, e);
+        }
+    }
+
+    private Map<String, Table<?>> scanTables() {
+        final Map<String, Table<?>> tables = new LinkedHashMap<>();
+        for (Class<?> tableType : scan(Table.class)) {
+            final Table<?> table = referenceInstanceOf(tableType);
+            if (table != null)
+                tables.put(table.getName().toLowerCase(), table);
+        }
+
+        return tables;
+    }
+
+    // 코드 생성된 테이블 클래스는 자기 타입의 static 필드로 참조 인스턴스를 가짐. 예시) DummyJooqTable.DUMMY_JOOQ_TABLE
+    private static Table<?> referenceInstanceOf(Class<?> tableType) {
+        for (Field field : tableType.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || field.getType() != tableType)
+                continue;
+
+            try {
+                return (Table<?>) ReflectionUtil.getField(null, field);
+            } catch (IllegalAccessException e) {
+                throw new JooqRecordMappingException("Table reference not accessible.", e);
+            }
+        }
+
+        log.debug("No reference instance on table({}).", tableType);
+        return null;
+    }
+
+    private List<Class<?>> scan(Class<?> type) {
+        final ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(type));
+
+        final List<Class<?>> classes = new ArrayList<>();
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                try {
+                    classes.add(ClassUtils.forName(candidate.getBeanClassName(), getClass().getClassLoader()));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    throw new JooqRecordMappingException("Scanned class not loadable.", e);
+                }
+            }
+        }
+
+        return classes;
+    }
+
+    private static void log(Report report, long elapsedNanos) {
+        log.info("jooq mapping warmed up. pairs: {}, failed: {}, elapsed: {}ms",
+                report.getPairings().size(), report.getFailures().size(), elapsedNanos / 1_000_000);
+
+        for (Pairing pairing : report.getPairings()) {
+            if (pairing.getFailure() != null) {
+                log.warn("jooq mapping warm up failed. pojo: {}, table: {}",
+                        pairing.getPojoType(), pairing.getTableName(), pairing.getFailure());
+            } else if (!pairing.getUnmatchedFields().isEmpty() || !pairing.getUnmatchedColumns().isEmpty()) {
+                log.warn("jooq mapping not fully matched. pojo: {}, table: {}, unmatched fields: {}, unmatched columns: {}",
+                        pairing.getPojoType(), pairing.getTableName(),
+                        pairing.getUnmatchedFields(), pairing.getUnmatchedColumns());
+            }
+        }
+
+        if (!report.getUnpairedPojos().isEmpty() || !report.getUnpairedTables().isEmpty()) {
+            log.warn("jooq mapping not paired. pojos: {}, tables: {}",
+                    report.getUnpairedPojos(), report.getUnpairedTables());
+        }
+    }
+
+
+    /**
+     * 실행 결과
+     */
+    @Getter
+    @ToString
+    public static class Report {
+
+        private final List<Pairing> pairings;
+        private final List<Class<?>> unpairedPojos;
+        private final List<Table<?>> unpairedTables;
+
+        Report(List<Pairing> pairings, List<Class<?>> unpairedPojos, List<Table<?>> unpairedTables) {
+            this.pairings = Collections.unmodifiableList(pairings);
+            this.unpairedPojos = Collections.unmodifiableList(unpairedPojos);
+            this.unpairedTables = Collections.unmodifiableList(unpairedTables);
+        }
+
+        /**
+         * @return 계획 생성이나 검증 변환에 실패한 쌍
+         */
+        public List<Pairing> getFailures() {
+            return pairings.stream().filter(pairing -> pairing.getFailure() != null).collect(Collectors.toList());
+        }
+    }
+
+
+    /**
+     * Pojo와 테이블 한 쌍의 결과
+     */
+    @Getter
+    @ToString
+    public static class Pairing {
+
+        private final Class<?> pojoType;
+        private final String tableName;
+        private final List<String> unmatchedFields;  // 어떤 컬럼과도 매칭되지 않은 Pojo 필드
+        private final List<String> unmatchedColumns; // 어떤 필드와도 매칭되지 않은 컬럼
+        private final RuntimeException failure;      // 성공이면 null
+
+        Pairing(Class<?> pojoType, String tableName, List<String> unmatchedFields, List<String> unmatchedColumns,
+                RuntimeException failure) {
+
+            this.pojoType = pojoType;
+            this.tableName = tableName;
+            this.unmatchedFields = unmatchedFields;
+            this.unmatchedColumns = unmatchedColumns;
+            this.failure = failure;
+        }
+    }
+}
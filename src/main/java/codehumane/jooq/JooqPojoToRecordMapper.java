@@ -1,170 +1,129 @@
 package codehumane.jooq;
 
-import codehumane.common.Encodable;
 import codehumane.common.Identifiable;
-import codehumane.common.ReflectionUtil;
-import org.jooq.EnumType;
 import org.jooq.Record;
-import org.springframework.util.StringUtils;
+import org.jooq.TableRecord;
+import org.jooq.UniqueKey;
 
-import java.lang.reflect.Field;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * 자바의 Pojo를 Jooq의 {@link Record}로 변환 (보다 자세한 내용과 쓰임은 JooqPojoToRecordMapperTest 참고)
  */
 class JooqPojoToRecordMapper {
 
-    private static final Set<FieldMapper> fieldMappers = new LinkedHashSet<>();
+    private final FieldMappers fieldMappers;
+    private final PojoSnapshots snapshots; // null이면 dirty tracking 없이 모든 필드를 할당
 
-    static {
-        fieldMappers.add(new EncodableFieldMapper<>()); // 순서 중요
-        fieldMappers.add(new DefaultFieldMapper());
-    }
+    // Pojo 클래스마다 Record 형태별 쓰기 계획을 보관 (ClassValue이므로 Pojo 클래스를 붙잡지 않음)
+    private final ClassValue<ConcurrentMap<RecordShape, RecordWritePlan>> writePlans =
+            new ClassValue<ConcurrentMap<RecordShape, RecordWritePlan>>() {
 
-    <R extends Record, S extends Identifiable> void map(S source, R record) {
-        final List<Field> sourceFields = ReflectionUtil.getAllFields(source.getClass());
-        for (org.jooq.Field<?> recordField : record.fields()) {
-            for (Field sourceField : sourceFields) {
-                mapField(source, record, recordField, sourceField);
-            }
-        }
-    }
+                @Override
+                protected ConcurrentMap<RecordShape, RecordWritePlan> computeValue(Class<?> sourceType) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
 
-    private <R extends Record, S extends Identifiable> void mapField(
-            S source, R record, org.jooq.Field<?> recordField, Field sourceField) {
+    // 코드 생성된 Record가 아니더라도 같은 필드 배열이면 형태를 다시 계산하지 않음
+    private volatile RecordShape recentShape;
 
-        final Object sourceValue = getSourceValue(source, sourceField);
-        if (!JooqFieldTokenMatcher.match(recordField, sourceField)) {
-            return;
-        }
+    JooqPojoToRecordMapper() {
+        this(FieldMappers.defaults());
+    }
 
-        if (Objects.isNull(sourceValue)) {
-            // JOOQ는 UPDATE문 생성시에 set 절에 포함시킬 필드를 결정하기 위해 changed 여부를 검사한다.
-            // changed 상태가 되기 위해서는 `record.set`이 명시적으로 호출되어야 함. (혹은 `changed`를 호출할수도 있으나 별로 좋은 방법은 아님)
-            // 그리고 UPDATE 시에는 `null`로 필드값을 할당할 수 있어야 한다.
-            // 따라서, 값이 null이더라도 set을 호출함.
-            record.set(recordField, null);
-            return;
-        }
+    /**
+     * @param fieldMappers 값 변환에 사용할 {@link FieldMapper} 목록 (사용자 정의 변환기 포함)
+     */
+    JooqPojoToRecordMapper(FieldMappers fieldMappers) {
+        this(fieldMappers, null);
+    }
 
-        final FieldMapper delegate = fieldMappers.stream()
-                .filter(x ->
-                        x.match(sourceValue, recordField))
-                .findFirst()
-                .orElseThrow(() ->
-                        new JooqRecordMappingException(String.format(
-                                "임시 예외 반환: Name matched but type not matched. [%s]",
-                                recordField.getName()
-                        )));
-
-        delegate.map(sourceField, sourceValue, record, recordField);
+    /**
+     * @param fieldMappers 값 변환에 사용할 {@link FieldMapper} 목록 (사용자 정의 변환기 포함)
+     * @param snapshots    Pojo의 변환 직후 값 기록 (기록이 있는 Pojo는 달라진 필드와 primary key 필드만 할당)
+     */
+    JooqPojoToRecordMapper(FieldMappers fieldMappers, PojoSnapshots snapshots) {
+        this.fieldMappers = fieldMappers;
+        this.snapshots = snapshots;
     }
 
-    private <S extends Identifiable> Object getSourceValue(S source, Field sourceField) {
+    <R extends Record, S extends Identifiable> void map(S source, R record) {
+        map(source, record, true);
+    }
 
-        try {
-            return ReflectionUtil.getField(source, sourceField);
-        } catch (IllegalAccessException e) {
-            throw new JooqRecordMappingException("Source field not accessible.", e);
+    /**
+     * @param trackChanges 기록이 있는 Pojo에 대해 달라진 필드만 할당할지 여부 (INSERT처럼 모든 필드가 필요하면 false)
+     */
+    <R extends Record, S extends Identifiable> void map(S source, R record, boolean trackChanges) {
+        final RecordWritePlan plan = getPlan(source.getClass(), record);
+        final Object[] snapshot = snapshots == null || !trackChanges ? null : snapshots.get(source);
+
+        if (snapshot == null) {
+            plan.map(source, record);
+        } else {
+            plan.mapChanged(source, record, snapshot);
         }
     }
 
-    interface FieldMapper {
+    // 쓰기 계획 조회 (없으면 생성하여 캐시), JooqMappingWarmUp이 기동 시점에 미리 생성하는 용도로도 사용
+    RecordWritePlan getPlan(Class<?> sourceType, Record record) {
+        final RecordShape shape = RecordShape.of(record, recentShape);
+        recentShape = shape;
 
-        boolean match(Object sourceValue, org.jooq.Field<?> destinationField);
+        final ConcurrentMap<RecordShape, RecordWritePlan> plans = writePlans.get(sourceType);
+        final RecordWritePlan cached = plans.get(shape);
+        if (cached != null)
+            return cached;
 
-        <R extends Record> void map(
-                Field sourceField, Object sourceValue, R destination, org.jooq.Field<?> destinationField);
-
-        default <R extends Record> void invokeRecordSetterMethod(R record, Field sourceField, Object setterValue) {
-            final String recordSetterName = "set".concat(StringUtils.capitalize(sourceField.getName()));
-            ReflectionUtil.invokeMethodForSingleArgument(record, recordSetterName, setterValue);
-        }
+        return plans.computeIfAbsent(shape, s -> generatePlan(sourceType, s.getFields(), primaryKeyNames(record)));
     }
 
+    // 캐시된 쓰기 계획 조회 (없으면 null, 생성하지 않음)
+    RecordWritePlan findPlan(Class<?> sourceType, Record record) {
+        return writePlans.get(sourceType).get(RecordShape.of(record, null));
+    }
 
-    static class EncodableFieldMapper<T, E extends Enum<E> & Encodable<T>> implements FieldMapper {
-
-        @Override
-        @SuppressWarnings("unchecked")
-        public boolean match(Object sourceValue, org.jooq.Field<?> destinationField) {
-            if (!sourceValue.getClass().isEnum() ||
-                    !Encodable.class.isAssignableFrom(sourceValue.getClass())) {
-                return false;
-            }
+    private RecordWritePlan generatePlan(Class<?> sourceType, org.jooq.Field<?>[] recordFields,
+                                         Set<String> primaryKeyNames) {
 
-            final Class<?> encodableCodeClass = ((E) sourceValue).getCode().getClass();
-            final Class<?> destinationFieldType = destinationField.getType();
+        final ClassMetadata sourceMetadata = ClassMetadata.of(sourceType);
 
-            if (destinationFieldType.isEnum()) {
-                // org.jooq.EnumType에 대응되는 Encodable은 code 타입이 String인 것만 허용
-                return encodableCodeClass == String.class
-                        && EnumType.class.isAssignableFrom(destinationFieldType);
-            } else {
-                return destinationFieldType == encodableCodeClass;
+        // Record 필드마다 이름 key가 같은 Pojo 필드만 조회 (Record 필드 × Pojo 필드 이중 루프 대신)
+        final List<RecordWritePlan.Step> steps = new ArrayList<>();
+        for (org.jooq.Field<?> recordField : recordFields) {
+            for (ClassMetadata.FieldMetadata sourceField
+                    : JooqFieldTokenMatcher.matchingFields(sourceMetadata, recordField)) {
+                steps.add(new RecordWritePlan.Step(
+                        sourceField, recordField, primaryKeyNames.contains(recordField.getName()), fieldMappers));
             }
         }
 
-        @Override
-        @SuppressWarnings("unchecked")
-        public <R extends Record> void map(
-                Field sourceField, Object sourceValue, R destination, org.jooq.Field<?> destinationField) {
-
-            final E sourceValueAsEncodable = (E) sourceValue;
-            final T sourceCode = sourceValueAsEncodable.getCode();
-
-            final Object setterValue;
-            if (destinationField.getType().isEnum()) {
-                final String sourceCodeAsString = (String) sourceCode;
-                final Class<? extends Enum> destinationFieldType =
-                        (Class<? extends Enum>) destinationField.getType();
-
-                setterValue = Enum.valueOf(destinationFieldType, sourceCodeAsString);
-            } else {
-                setterValue = sourceCode;
-            }
-
-            invokeRecordSetterMethod(destination, sourceField, setterValue);
-        }
+        // 생성된 변환기는 기본 변환기 목록만 사용하므로, 사용자 정의 변환기가 있으면 사용하지 않음
+        return new RecordWritePlan(
+                steps.toArray(new RecordWritePlan.Step[steps.size()]),
+                fieldMappers == FieldMappers.defaults() ? GeneratedJooqMappers.find(sourceType) : null);
     }
 
+    private static Set<String> primaryKeyNames(Record record) {
+        if (!(record instanceof TableRecord))
+            return Collections.emptySet();
 
-    static class DefaultFieldMapper implements FieldMapper {
-
-        @Override
-        public boolean match(Object sourceValue, org.jooq.Field<?> destinationField) {
-            return ReflectionUtil.isAssignable(sourceValue.getClass(), destinationField.getType());
-        }
-
-        @Override
-        public <R extends Record> void map(
-                Field sourceField, Object sourceValue, R destination, org.jooq.Field<?> destinationField) {
-            Object finalSourceValue = downcastValueIfRequired(destinationField, sourceValue);
-            invokeRecordSetterMethod(destination, sourceField, finalSourceValue);
-        }
-
-        /**
-         * reflection method invoke 시, <br/>
-         * 하위 타입의 파라미터에 상위 타입의 값을 넘길 수 없음. <br/>
-         * Jooq에서 사용되는 타입들을 대상으로 한정하여, 적절히 변환 수행.
-         */
-        @SuppressWarnings("unchecked")
-        private Object downcastValueIfRequired(org.jooq.Field<?> recordField, Object sourceValue) {
-
-            if (sourceValue.getClass() == Date.class) {
-                // java.util.Date 타입의 값을 하위 타입으로 적절히 변환
-                final Date sourceValueAsDate = (Date) sourceValue;
-                if (recordField.getType() == java.sql.Date.class) {
-
-                    return new java.sql.Date(sourceValueAsDate.getTime());
-                } else if (recordField.getType() == java.sql.Timestamp.class) {
-                    return new java.sql.Date(sourceValueAsDate.getTime());
-                }
-            }
+        final UniqueKey<?> primaryKey = ((TableRecord<?>) record).getTable().getPrimaryKey();
+        if (primaryKey == null)
+            return Collections.emptySet();
 
-            return sourceValue;
+        final Set<String> names = new HashSet<>();
+        for (org.jooq.Field<?> field : primaryKey.getFields()) {
+            names.add(field.getName());
         }
 
+        return names;
     }
 }
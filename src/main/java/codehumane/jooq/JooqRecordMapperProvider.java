@@ -0,0 +1,68 @@
+package codehumane.jooq;
+
+import org.jooq.Record;
+import org.jooq.RecordMapper;
+import org.jooq.RecordMapperProvider;
+import org.jooq.RecordType;
+import org.jooq.impl.DefaultRecordMapper;
+
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * Jooq의 `into(Class)`, `fetchInto(Class)` 호출이 {@link CachedJooqRecordToPojoMapper}를 사용하도록 하는 {@link RecordMapperProvider}<br/>
+ * {@link org.jooq.impl.DefaultConfiguration#set(RecordMapperProvider)}로 등록한다.
+ * {@link DestinationFactory}로 생성할 수 있는 일반 클래스만 담당하며, 그 외의 타입(자바 기본 타입, 배열, enum, 인터페이스, 추상 클래스,
+ * 사용할 수 있는 생성자가 없는 클래스, Jooq의 {@link Record} 구현체)은 Jooq의 {@link DefaultRecordMapper}에 위임한다.
+ */
+public class JooqRecordMapperProvider implements RecordMapperProvider {
+
+    private static final ClassValue<Boolean> supportedTypes = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isSupported(type);
+        }
+    };
+
+    private final CachedJooqRecordToPojoMapper mapper;
+
+    public JooqRecordMapperProvider() {
+        this(new CachedJooqRecordToPojoMapper());
+    }
+
+    /**
+     * @param mapper 변환에 사용할 변환기 (변환 계획 캐시를 공유하려면 다른 곳에서 쓰는 인스턴스를 전달)
+     */
+    public JooqRecordMapperProvider(CachedJooqRecordToPojoMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public <R extends Record, E> RecordMapper<R, E> provide(RecordType<R> recordType, Class<? extends E> type) {
+        if (!supportedTypes.get(type))
+            return new DefaultRecordMapper<>(recordType, type);
+
+        // 한 번의 into 호출에서 변환하는 Record들은 필드 구성이 같으므로, 생성자와 계획은 한 번만 조회
+        final Function<R, ? extends E> mappingFunction = mapper.mappingFunction(type);
+        return mappingFunction::apply;
+    }
+
+    /**
+     * @param type 클래스
+     * @return {@link CachedJooqRecordToPojoMapper}로 생성하여 변환할 수 있는 클래스인지 여부 (중첩 객체 판단에도 사용)
+     */
+    static boolean supports(Class<?> type) {
+        return supportedTypes.get(type);
+    }
+
+    private static boolean isSupported(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isEnum() || type.isInterface()
+                || Modifier.isAbstract(type.getModifiers())
+                || type.getName().startsWith("java.")
+                || Record.class.isAssignableFrom(type)) // `fetchInto(XxxRecord.class)`는 Jooq가 Record 간 복사로 처리
+            return false;
+
+        return DestinationFactory.of(type).isCreatable();
+    }
+}
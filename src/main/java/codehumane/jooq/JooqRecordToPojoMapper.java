@@ -1,7 +1,14 @@
 package codehumane.jooq;
 
 import codehumane.common.Encodable;
+import org.jooq.Cursor;
 import org.jooq.Record;
+import org.jooq.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 /**
  * {@link org.jooq.Record} to POJO 변환기
@@ -28,4 +35,56 @@ public interface JooqRecordToPojoMapper {
      * @param <D>         변환 결과 타입
      */
     <D, R extends Record> D map(R record, D destination);
+
+    /**
+     * Jooq의 Result에 담긴 모든 Record를 주어진 타입의 객체로 변환<br/>
+     * 기본 구현은 Record마다 {@link #map(Record, Class)}를 호출하며, 구현체는 한 Result의 Record들의 필드 구성이 같다는 점을 이용해
+     * 변환 준비 작업(생성자 조회, 매핑 계산 등)을 한 번만 수행하도록 재정의할 수 있다.
+     *
+     * @param records         JOOQ Result
+     * @param destinationType 변환 결과 타입 클래스
+     * @param <R>             JOOQ Record 구현체
+     * @param <D>             변환 결과 타입
+     * @return Record 순서를 유지한 변환 결과 목록
+     */
+    default <D, R extends Record> List<D> mapAll(Result<R> records, Class<D> destinationType) {
+        final List<D> destinations = new ArrayList<>(records.size());
+        for (R record : records) {
+            destinations.add(map(record, destinationType));
+        }
+
+        return destinations;
+    }
+
+    /**
+     * {@link #mapAll(Result, Class)}와 같으나, Record들을 구간으로 나누어 주어진 {@link ForkJoinPool}에서 병렬로 변환<br/>
+     * 결과 목록은 Result의 Record 순서를 유지하며, {@link #map(Record, Class)}는 여러 스레드에서 동시에 호출된다.
+     *
+     * @param records         JOOQ Result
+     * @param destinationType 변환 결과 타입 클래스
+     * @param pool            변환을 수행할 ForkJoinPool
+     * @param <R>             JOOQ Record 구현체
+     * @param <D>             변환 결과 타입
+     * @return Record 순서를 유지한 변환 결과 목록
+     */
+    default <D, R extends Record> List<D> mapAll(Result<R> records, Class<D> destinationType, ForkJoinPool pool) {
+        return ParallelRecordMapping.mapAll(records, record -> map(record, destinationType), pool);
+    }
+
+    /**
+     * Jooq의 Cursor를 순회하며 Record를 하나씩 주어진 타입의 객체로 변환하는 스트림 반환<br/>
+     * Record는 스트림이 원소를 요청할 때 커서에서 읽어 변환하므로, 전체 결과를 메모리에 올리지 않는다.
+     * 스트림을 닫으면 커서도 닫히므로 try-with-resources와 함께 사용한다.
+     *
+     * @param cursor          JOOQ Cursor (한 번에 읽어올 행의 수는 커서를 만든 쿼리의 fetch size를 따름)
+     * @param destinationType 변환 결과 타입 클래스
+     * @param <R>             JOOQ Record 구현체
+     * @param <D>             변환 결과 타입
+     * @return 변환 결과의 순차 스트림
+     */
+    default <D, R extends Record> Stream<D> stream(Cursor<R> cursor, Class<D> destinationType) {
+        return CursorStreams
+                .of(cursor)
+                .map(record -> map(record, destinationType));
+    }
 }
@@ -0,0 +1,66 @@
+package codehumane.jooq;
+
+import codehumane.common.Identifiable;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Table;
+
+/**
+ * `DSLContext.newRecord(Table, Object)`, `Record.from(Object)`을 대신하여 Pojo를 {@link Record}로 변환<br/>
+ * Jooq의 기본 변환과 달리 {@link codehumane.common.Encodable} 타입을 지원하고, {@link JooqPojoToRecordMapper}의 캐시된 쓰기 계획을 사용한다.
+ * 값이 null인 필드도 할당하므로 changed 상태가 된다. (UPDATE 시 null로 갱신 가능)
+ */
+public class JooqRecordUnmapper {
+
+    private final DSLContext dslContext;
+    private final JooqPojoToRecordMapper mapper;
+
+    public JooqRecordUnmapper(DSLContext dslContext) {
+        this(dslContext, FieldMappers.defaults());
+    }
+
+    /**
+     * @param dslContext   Record를 생성할 DSLContext
+     * @param fieldMappers 값 변환에 사용할 {@link FieldMapper} 목록 (사용자 정의 변환기 포함)
+     */
+    public JooqRecordUnmapper(DSLContext dslContext, FieldMappers fieldMappers) {
+        this.dslContext = dslContext;
+        this.mapper = new JooqPojoToRecordMapper(fieldMappers);
+    }
+
+    /**
+     * 테이블의 새 Record를 만들어 Pojo의 값을 할당 (`DSLContext.newRecord(Table, Object)` 대응)
+     *
+     * @param table  대상 테이블
+     * @param source Pojo
+     * @param <R>    JOOQ Record 구현체
+     * @return DSLContext에 연결된 새 Record
+     */
+    public <R extends Record> R newRecord(Table<R> table, Identifiable<?> source) {
+        return from(source, dslContext.newRecord(table));
+    }
+
+    /**
+     * 기존 Record에 Pojo의 값을 할당 (`Record.from(Object)` 대응)
+     *
+     * @param source Pojo
+     * @param record 할당 대상 Record
+     * @param <R>    JOOQ Record 구현체
+     * @return 할당 대상 Record
+     */
+    public <R extends Record> R from(Identifiable<?> source, R record) {
+        mapper.map(source, record);
+        return record;
+    }
+
+    /**
+     * Pojo 클래스와 Record 형태에 대한 쓰기 계획을 미리 생성 ({@link JooqMappingWarmUp} 용도)
+     *
+     * @param sourceType Pojo 클래스
+     * @param record     쓰기 대상과 같은 형태의 Record
+     * @return 쓰기 계획
+     */
+    RecordWritePlan prepare(Class<?> sourceType, Record record) {
+        return mapper.getPlan(sourceType, record);
+    }
+}
@@ -0,0 +1,139 @@
+package codehumane.jooq;
+
+import org.jooq.Record;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 1:N join 결과를 부모 Pojo와 자식 컬렉션으로 묶는 변환 계획.<br/>
+ * join한 Record마다 부모 필드가 반복되므로, 부모의 id 값으로 행을 묶어 부모는 한 번만 생성하고 자식만 컬렉션 필드에 추가한다.
+ * 부모와 자식이 읽을 Record 필드는 계획을 만들 때 나누어 두므로 행마다 이름을 비교하지 않는다.
+ */
+final class OneToManyMappingPlan {
+
+    private final RecordMappingPlan parentPlan;
+    private final int parentIdIndex;
+    private final RecordMappingPlan childPlan;
+    private final int[] childIndexes; // 값이 모두 null이면 자식이 없는 행 (LEFT JOIN)
+    private final MethodHandle childrenGetter;
+    private final MethodHandle childrenSetter;
+    private final Supplier<Collection<Object>> collectionFactory;
+
+    OneToManyMappingPlan(RecordMappingPlan parentPlan, int parentIdIndex,
+                         RecordMappingPlan childPlan, int[] childIndexes,
+                         ClassMetadata.FieldMetadata childrenField, Supplier<Collection<Object>> collectionFactory) {
+
+        this.parentPlan = parentPlan;
+        this.parentIdIndex = parentIdIndex;
+        this.childPlan = childPlan;
+        this.childIndexes = childIndexes;
+        this.childrenGetter = childrenField.getter();
+        this.childrenSetter = childrenField.setter();
+        this.collectionFactory = collectionFactory;
+    }
+
+    /**
+     * 부모 id로 색인하여 행을 묶는다. (입력 순서와 무관하게 같은 부모는 한 번만 생성)
+     *
+     * @param records 같은 필드 구성의 Record들
+     * @return 처음 나타난 순서대로의 부모 목록
+     */
+    List<Object> mapAll(Iterable<? extends Record> records) {
+        final Map<Object, Object> parents = new LinkedHashMap<>();
+
+        for (Record record : records) {
+            final Object id = record.get(parentIdIndex);
+            Object parent = parents.get(id);
+            if (parent == null) {
+                parent = createParent(record);
+                parents.put(id, parent);
+            }
+
+            addChild(record, parent);
+        }
+
+        return new ArrayList<>(parents.values());
+    }
+
+    /**
+     * 부모 id로 정렬된 행들을 순차적으로 묶는다.<br/>
+     * 부모 id가 바뀌는 행을 만나면 그때까지 묶은 부모를 내보내므로, 한 번에 한 부모의 자식들만 메모리에 유지한다.
+     * 정렬되지 않은 입력에서는 같은 부모가 여러 번 만들어질 수 있다.
+     *
+     * @param first   첫 Record (계획을 만드는 데 사용한 Record)
+     * @param records 첫 Record 이후의 Record들
+     * @return 부모를 하나씩 내보내는 순차 Spliterator
+     */
+    Spliterator<Object> spliterator(Record first, Iterator<? extends Record> records) {
+        return new Spliterators.AbstractSpliterator<Object>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+
+            private Record pending = first; // 다음 부모의 첫 행
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Object> action) {
+                final Record record = pending;
+                if (record == null)
+                    return false;
+
+                pending = null;
+                final Object id = record.get(parentIdIndex);
+                final Object parent = createParent(record);
+                addChild(record, parent);
+
+                while (records.hasNext()) {
+                    final Record next = records.next();
+                    if (!Objects.equals(id, next.get(parentIdIndex))) {
+                        pending = next;
+                        break;
+                    }
+
+                    addChild(next, parent);
+                }
+
+                action.accept(parent);
+                return true;
+            }
+        };
+    }
+
+    // 자식이 없는 부모도 null 대신 빈 컬렉션을 가지도록 생성 시점에 할당
+    private Object createParent(Record record) {
+        final Object parent = parentPlan.create(record);
+
+        try {
+            childrenSetter.invokeExact(parent, (Object) collectionFactory.get());
+        } catch (Throwable e) {
+            throw new JooqRecordMappingException("Field set failed.", e);
+        }
+
+        return parent;
+    }
+
+    private void addChild(Record record, Object parent) {
+        if (!RecordMappingPlan.isPresent(record, childIndexes))
+            return;
+
+        childrenOf(parent).add(childPlan.create(record));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Object> childrenOf(Object parent) {
+        try {
+            return (Collection<Object>) (Object) childrenGetter.invokeExact(parent);
+        } catch (Throwable e) {
+            throw new JooqRecordMappingException("Field get failed.", e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package codehumane.jooq;
+
+import org.jooq.Record;
+import org.jooq.Result;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * 이미 메모리에 올라온 {@link Result}를 {@link ForkJoinPool}에서 나누어 변환하는 도구
+ */
+class ParallelRecordMapping {
+
+    private static final int MIN_CHUNK_SIZE = 512; // 이보다 작게 나누면 작업 분배 비용이 변환 비용보다 커짐
+    private static final int CHUNKS_PER_WORKER = 4; // 작업자 사이의 부하 불균형을 흡수하기 위한 여유분
+
+    /**
+     * {@link Result}를 위치(index) 구간으로 나누어 병렬로 변환한다.<br/>
+     * 각 작업은 자신이 맡은 구간의 결과를 미리 할당된 배열의 같은 위치에 기록하므로, 결과는 {@link Result}의 순서를 유지한다.
+     * 변환 함수는 여러 작업자 스레드에서 동시에 호출되므로 스레드 안전해야 한다.
+     *
+     * @param records JOOQ Result
+     * @param mapping Record 하나를 변환하는 함수
+     * @param pool    변환을 수행할 {@link ForkJoinPool}
+     * @param <R>     JOOQ Record 구현체
+     * @param <D>     변환 결과 타입
+     * @return Record 순서를 유지한 변환 결과 목록
+     */
+    static <D, R extends Record> List<D> mapAll(Result<R> records, Function<R, D> mapping, ForkJoinPool pool) {
+        final Object[] destinations = new Object[records.size()];
+        final int chunkSize = Math.max(
+                MIN_CHUNK_SIZE, records.size() / (pool.getParallelism() * CHUNKS_PER_WORKER));
+
+        pool.invoke(new MappingTask<>(records, mapping, destinations, 0, records.size(), chunkSize));
+
+        @SuppressWarnings("unchecked")
+        final List<D> mapped = (List<D>) Arrays.asList(destinations);
+        return new ArrayList<>(mapped);
+    }
+
+
+    private static class MappingTask<D, R extends Record> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Result<R> records;
+        private final Function<R, D> mapping;
+        private final Object[] destinations;
+        private final int from; // inclusive
+        private final int to; // exclusive
+        private final int chunkSize;
+
+        MappingTask(Result<R> records, Function<R, D> mapping, Object[] destinations,
+                    int from, int to, int chunkSize) {
+
+            this.records = records;
+            this.mapping = mapping;
+            this.destinations = destinations;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                for (int i = from; i < to; i++) {
+                    destinations[i] = mapping.apply(records.get(i));
+                }
+                return;
+            }
+
+            final int middle = (from + to) >>> 1;
+            invokeAll(
+                    new MappingTask<>(records, mapping, destinations, from, middle, chunkSize),
+                    new MappingTask<>(records, mapping, destinations, middle, to, chunkSize)
+            );
+        }
+    }
+}
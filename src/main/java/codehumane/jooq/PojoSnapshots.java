@@ -0,0 +1,156 @@
+package codehumane.jooq;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pojo가 {@link org.jooq.Record}에서 변환된 직후의 필드 값들 (dirty tracking 용도)<br/>
+ * {@link SnapshotRecordingJooqRecordToPojoMapper}가 변환 직후의 값을 기록하고,
+ * 같은 인스턴스를 사용하는 {@link JooqPojoToRecordMapper}는 기록된 값과 달라진 필드만 Record에 할당한다.
+ * 따라서 UPDATE문의 set 절에는 실제로 바뀐 필드만 포함된다.<br/>
+ * Pojo는 equals/hashCode가 아닌 참조로 구분하며, 약한 참조로 보관하므로 Pojo가 GC되면 기록도 함께 사라진다.
+ */
+public final class PojoSnapshots {
+
+    private static final ClassValue<Layout> layouts = new ClassValue<Layout>() {
+
+        @Override
+        protected Layout computeValue(Class<?> pojoType) {
+            return new Layout(pojoType);
+        }
+    };
+
+    private final Map<IdentityKey, Object[]> snapshots = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * Pojo의 현재 필드 값을 기록 (이미 기록이 있으면 교체)<br/>
+     * UPDATE 실행 후 같은 Pojo를 계속 수정하는 경우에는 다시 호출하여 기준 값을 갱신한다.
+     *
+     * @param pojo Pojo
+     */
+    public void record(Object pojo) {
+        expungeCollected();
+        snapshots.put(new IdentityKey(pojo, collected), layouts.get(pojo.getClass()).valuesOf(pojo));
+    }
+
+    /**
+     * Pojo의 기록 삭제 (이후에는 모든 필드를 할당함)
+     *
+     * @param pojo Pojo
+     */
+    public void forget(Object pojo) {
+        snapshots.remove(new IdentityKey(pojo, null));
+    }
+
+    /**
+     * @return 기록된 Pojo 수 (GC된 Pojo의 기록이 아직 남아 있을 수 있음)
+     */
+    public int size() {
+        expungeCollected();
+        return snapshots.size();
+    }
+
+    /**
+     * @param pojo Pojo
+     * @return 기록된 필드 값 ({@link ClassMetadata#getFields()} 순서, 기록이 없으면 null)
+     */
+    Object[] get(Object pojo) {
+        return snapshots.get(new IdentityKey(pojo, null));
+    }
+
+    /**
+     * @param snapshot 기록된 필드 값들
+     * @param index    {@link ClassMetadata.FieldMetadata#getIndex()}
+     * @param value    현재 값
+     * @return 기록된 값과 현재 값이 같은지 여부
+     */
+    static boolean unchanged(Object[] snapshot, int index, Object value) {
+        if (index < 0 || index >= snapshot.length)
+            return false;
+
+        final Object recorded = snapshot[index];
+        return recorded == null ? value == null : recorded.equals(value);
+    }
+
+    private void expungeCollected() {
+        for (Reference<?> reference = collected.poll(); reference != null; reference = collected.poll()) {
+            snapshots.remove(reference);
+        }
+    }
+
+
+    /**
+     * 클래스마다 기록할 필드의 getter ({@link ClassMetadata}의 필드 순서를 그대로 따름)
+     */
+    private static final class Layout {
+
+        private final MethodHandle[] getters;
+        private final boolean[] mutableDate;
+
+        private Layout(Class<?> pojoType) {
+            final List<ClassMetadata.FieldMetadata> fields = ClassMetadata.of(pojoType).getFields();
+
+            this.getters = new MethodHandle[fields.size()];
+            this.mutableDate = new boolean[fields.size()];
+            for (ClassMetadata.FieldMetadata field : fields) {
+                getters[field.getIndex()] = field.getter();
+                mutableDate[field.getIndex()] = Date.class.isAssignableFrom(field.getType());
+            }
+        }
+
+        private Object[] valuesOf(Object pojo) {
+            final Object[] values = new Object[getters.length];
+            for (int i = 0; i < getters.length; i++) {
+                final Object value;
+                try {
+                    value = (Object) getters[i].invokeExact(pojo);
+                } catch (Throwable e) {
+                    throw new JooqRecordMappingException("Source field get failed.", e);
+                }
+
+                // Date는 제자리에서 수정될 수 있으므로 복제해 두어야 변경을 감지할 수 있음
+                values[i] = mutableDate[i] && value != null ? ((Date) value).clone() : value;
+            }
+
+            return values;
+        }
+    }
+
+
+    /**
+     * 참조 동일성으로 비교하는 약한 참조 key (조회용 key는 queue 없이 생성)
+     */
+    private static final class IdentityKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        private IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+
+            if (!(o instanceof IdentityKey))
+                return false;
+
+            final Object referent = get();
+            return referent != null && referent == ((IdentityKey) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package codehumane.jooq;
+
+import codehumane.common.ReflectionUtil;
+import org.jooq.Record;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+
+/**
+ * 하나의 {@link Record} 형태(필드 구성)와 목적지 클래스 쌍에 대해 미리 계산해 둔 변환 계획.<br/>
+ * 레코드 한 건의 변환은 {@link Step} 배열을 순회하며 값을 읽고, 변환하고, 할당하는 것으로 끝난다.
+ * 기본 생성자가 없는 클래스는 생성자 파라미터 값({@link Argument})을 먼저 모아 생성한 뒤, 나머지 필드만 할당한다.
+ * 중첩 객체 필드({@link Nested})는 같은 Record의 접두어 또는 테이블로 구분된 필드들로 하위 계획을 만들어 한 번에 채운다.
+ */
+final class RecordMappingPlan {
+
+    private static final Step[] NO_STEPS = new Step[0];
+    private static final Nested[] NO_NESTED = new Nested[0];
+
+    private final DestinationFactory factory;
+    private final Argument[] arguments;
+    private final Step[] steps; // 이미 생성된 객체에 할당할 때 (모든 필드)
+    private final Step[] remainingSteps; // 생성자로 생성한 뒤 할당할 때 (생성자 파라미터와 매칭된 필드 제외)
+    private final Nested[] nested;
+    private final GeneratedJooqMapper<Object, Record> generated; // 생성된 변환기 (Record 타입이 같을 때만 사용, 없으면 null)
+
+    RecordMappingPlan(DestinationFactory factory, Argument[] arguments, Step[] steps, Step[] remainingSteps) {
+        this(factory, arguments, steps, remainingSteps, NO_NESTED, null);
+    }
+
+    RecordMappingPlan(DestinationFactory factory, Argument[] arguments, Step[] steps, Step[] remainingSteps,
+                      Nested[] nested, GeneratedJooqMapper<Object, Record> generated) {
+
+        this.factory = factory;
+        this.arguments = arguments;
+        this.steps = steps;
+        this.remainingSteps = remainingSteps;
+        this.nested = nested;
+        this.generated = generated;
+    }
+
+    /**
+     * @param factory 목적지 클래스의 생성 방법
+     * @return Record에서 할당할 값이 없는 계획 (생성만 수행)
+     */
+    static RecordMappingPlan empty(DestinationFactory factory) {
+        final Argument[] arguments = new Argument[factory.getParameterTypes().length];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = new Argument(-1, null, factory, i, null);
+        }
+
+        return new RecordMappingPlan(factory, arguments, NO_STEPS, NO_STEPS);
+    }
+
+    <D, R extends Record> D map(R source, D destination) {
+        if (isGenerated(source)) {
+            generated.map(source, destination);
+            return destination;
+        }
+
+        for (Step step : steps) {
+            step.map(source, destination);
+        }
+        for (Nested nestedStep : nested) {
+            nestedStep.map(source, destination);
+        }
+
+        return destination;
+    }
+
+    /**
+     * {@link #map(Record, Object)}과 같으나, 값이 null인 필드를 건너뛰지 않고 기본값(primitive는 0 또는 false, 그 외는 null)으로 되돌린다.<br/>
+     * 하나의 객체를 여러 행에 재사용할 때 이전 행의 값이 남지 않도록 하기 위함이며, 중첩 객체도 이미 있으면 새로 만들지 않고 덮어쓴다.
+     * 생성된 변환기는 null 값을 건너뛰므로 사용하지 않는다.
+     *
+     * @param source      JOOQ Record
+     * @param destination 재사용하는 목적지 객체
+     * @return 목적지 객체
+     */
+    <D, R extends Record> D overwrite(R source, D destination) {
+        for (Step step : steps) {
+            step.overwrite(source, destination);
+        }
+        for (Nested nestedStep : nested) {
+            nestedStep.overwrite(source, destination);
+        }
+
+        return destination;
+    }
+
+    /**
+     * 목적지 객체를 생성하고 값을 할당
+     *
+     * @param source JOOQ Record
+     * @return 변환 결과
+     */
+    <R extends Record> Object create(R source) {
+        if (isGenerated(source))
+            return generated.map(source);
+
+        if (arguments.length == 0) {
+            final Object destination = factory.create(null);
+            for (Step step : steps) {
+                step.map(source, destination);
+            }
+            for (Nested nestedStep : nested) {
+                nestedStep.map(source, destination);
+            }
+
+            return destination;
+        }
+
+        final Object[] values = new Object[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            values[i] = arguments[i].valueOf(source);
+        }
+
+        final Object destination = factory.create(values);
+        for (Step step : remainingSteps) {
+            step.map(source, destination);
+        }
+        for (Nested nestedStep : nested) {
+            nestedStep.map(source, destination);
+        }
+
+        return destination;
+    }
+
+    int size() {
+        int size = steps.length;
+        for (Nested nestedStep : nested) {
+            size += nestedStep.plan.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * @param record        JOOQ Record
+     * @param sourceIndexes 하위 객체(중첩 객체, 1:N의 자식)가 읽는 Record 필드 위치
+     * @return 하나라도 null이 아닌 값이 있는지 여부 (모두 null이면 LEFT JOIN으로 매칭된 행이 없는 경우)
+     */
+    static boolean isPresent(Record record, int[] sourceIndexes) {
+        for (int sourceIndex : sourceIndexes) {
+            if (record.get(sourceIndex) != null)
+                return true;
+        }
+
+        return false;
+    }
+
+    // 같은 이름의 필드 구성이라도 테이블의 Record가 아니면 타입이 있는 getter를 쓸 수 없으므로 계획의 단계를 사용
+    private boolean isGenerated(Record source) {
+        return generated != null && source.getClass() == generated.getRecordType();
+    }
+
+
+    /**
+     * {@link Record} 필드 하나를 목적지 필드 하나에 할당하는 단계<br/>
+     * 원본 필드는 계획 생성 시점에 위치(index)로 변환해 두고, 값은 {@link Record#get(int)}로 읽는다.
+     * ({@link Record#get(org.jooq.Field)}는 호출마다 레코드의 필드 목록에서 해당 필드를 찾는다.)
+     */
+    static final class Step {
+
+        private final int sourceIndex;
+        private final MethodHandle setter;
+        private final ConversionCache conversionCache;
+        private final Object defaultValue; // 재사용하는 객체에 값이 null인 행을 덮어쓸 때 할당
+
+        Step(int sourceIndex, org.jooq.Field<?> source, Field target, MethodHandle setter, FieldMappers fieldMappers) {
+            this.sourceIndex = sourceIndex;
+            this.setter = setter;
+            this.conversionCache = new ConversionCache(
+                    fieldMappers, target.getType(), target.getName(), source.getType());
+            this.defaultValue = ReflectionUtil.defaultValueOf(target.getType());
+        }
+
+        void map(Record record, Object destination) {
+            final Object sourceValue = record.get(sourceIndex);
+            if (sourceValue == null)
+                return;
+
+            set(destination, conversionCache.map(sourceValue));
+        }
+
+        void overwrite(Record record, Object destination) {
+            final Object sourceValue = record.get(sourceIndex);
+            set(destination, sourceValue == null ? defaultValue : conversionCache.map(sourceValue));
+        }
+
+        private void set(Object destination, Object targetValue) {
+            try {
+                setter.invokeExact(destination, targetValue);
+            } catch (Throwable e) {
+                throw new JooqRecordMappingException("Field set failed.", e);
+            }
+        }
+    }
+
+
+    /**
+     * 중첩 객체 필드 하나를 하위 계획으로 생성하여 할당하는 단계<br/>
+     * 하위 계획의 단계들도 부모와 같은 Record를 위치로 읽으므로, 한 행을 한 번 순회하는 것으로 중첩 객체까지 채운다.
+     * 하위 계획이 읽는 값이 모두 null이면(LEFT JOIN 등) 객체를 만들지 않는다.
+     */
+    static final class Nested {
+
+        private final int[] sourceIndexes;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final RecordMappingPlan plan;
+
+        Nested(int[] sourceIndexes, MethodHandle getter, MethodHandle setter, RecordMappingPlan plan) {
+            this.sourceIndexes = sourceIndexes;
+            this.getter = getter;
+            this.setter = setter;
+            this.plan = plan;
+        }
+
+        void map(Record record, Object destination) {
+            if (!isPresent(record, sourceIndexes))
+                return;
+
+            set(destination, plan.create(record));
+        }
+
+        // 값이 모두 null이면 null로 되돌리고, 이미 할당된 중첩 객체가 있으면 새로 만들지 않고 덮어씀
+        void overwrite(Record record, Object destination) {
+            if (!isPresent(record, sourceIndexes)) {
+                set(destination, null);
+                return;
+            }
+
+            final Object current;
+            try {
+                current = (Object) getter.invokeExact(destination);
+            } catch (Throwable e) {
+                throw new JooqRecordMappingException("Field get failed.", e);
+            }
+
+            if (current == null) {
+                set(destination, plan.overwrite(record, plan.create(record)));
+            } else {
+                plan.overwrite(record, current);
+            }
+        }
+
+        private void set(Object destination, Object targetValue) {
+            try {
+                setter.invokeExact(destination, targetValue);
+            } catch (Throwable e) {
+                throw new JooqRecordMappingException("Field set failed.", e);
+            }
+        }
+    }
+
+
+    /**
+     * {@link Record} 필드 하나를 생성자 파라미터 하나의 값으로 변환하는 단계<br/>
+     * 매칭되는 필드가 없거나 값이 null이면 파라미터의 기본값(primitive는 0 또는 false, 그 외는 null)을 사용한다.
+     */
+    static final class Argument {
+
+        private final int sourceIndex; // 매칭되는 필드가 없으면 -1
+        private final Object defaultValue;
+        private final ConversionCache conversionCache;
+
+        Argument(int sourceIndex, org.jooq.Field<?> source, DestinationFactory factory, int parameterIndex,
+                 FieldMappers fieldMappers) {
+
+            this.sourceIndex = sourceIndex;
+            this.defaultValue = factory.getParameterDefault(parameterIndex);
+            this.conversionCache = sourceIndex < 0 ? null : new ConversionCache(
+                    fieldMappers,
+                    factory.getParameterTypes()[parameterIndex],
+                    factory.getParameterNames()[parameterIndex],
+                    source.getType());
+        }
+
+        Object valueOf(Record record) {
+            if (sourceIndex < 0)
+                return defaultValue;
+
+            final Object sourceValue = record.get(sourceIndex);
+            return sourceValue == null ? defaultValue : conversionCache.map(sourceValue);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package codehumane.jooq;
+
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.TableRecord;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 변환 계획을 결정하는 {@link Record}의 형태 (필드 이름, 필드가 속한 테이블의 이름과 순서)<br/>
+ * 테이블 이름은 join한 테이블의 필드를 중첩 객체로 변환할지 결정하므로, 필드 이름이 같더라도 테이블이 다르면 다른 형태로 본다.
+ * (코드 생성된 테이블의 필드가 아니면 테이블 이름은 없음)
+ * 이름 목록의 해시는 생성 시점에 한 번만 계산하며, 코드 생성된 {@link TableRecord} 클래스는 클래스마다 같은 인스턴스를 재사용한다.
+ * 따라서 캐시 조회 시 대부분의 비교는 참조 비교로 끝난다.
+ */
+final class RecordShape {
+
+    // 코드 생성된 TableRecord는 클래스가 같으면 필드 구성도 같음 (alias된 테이블도 필드 이름은 같음)
+    private static final ClassValue<AtomicReference<RecordShape>> tableRecordShapes =
+            new ClassValue<AtomicReference<RecordShape>>() {
+
+                @Override
+                protected AtomicReference<RecordShape> computeValue(Class<?> recordType) {
+                    return new AtomicReference<>();
+                }
+            };
+
+    private final org.jooq.Field<?>[] fields;
+    private final String[] names;
+    private final String[] tableNames; // 테이블이 없는 필드면 null
+    private final int hash;
+
+    private RecordShape(org.jooq.Field<?>[] fields) {
+        this.fields = fields;
+        this.names = new String[fields.length];
+        this.tableNames = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            names[i] = fields[i].getName();
+            tableNames[i] = tableNameOf(fields[i]);
+        }
+        this.hash = 31 * Arrays.hashCode(names) + Arrays.hashCode(tableNames);
+    }
+
+    /**
+     * @param record JOOQ Record
+     * @param recent 직전에 사용한 형태 (없으면 null). 같은 필드 배열 인스턴스에서 만들어졌다면 다시 계산하지 않고 재사용한다.
+     * @return Record의 형태
+     */
+    static RecordShape of(Record record, RecordShape recent) {
+        if (!isGeneratedTableRecord(record)) {
+            final org.jooq.Field<?>[] fields = record.fields();
+            return recent != null && recent.isOf(fields) ? recent : of(fields);
+        }
+
+        final AtomicReference<RecordShape> holder = tableRecordShapes.get(record.getClass());
+        final RecordShape cached = holder.get();
+        if (cached != null)
+            return cached;
+
+        final RecordShape created = of(record.fields());
+        holder.compareAndSet(null, created);
+        return holder.get();
+    }
+
+    /**
+     * @param fields JOOQ Record의 필드 목록
+     * @return 필드 목록의 형태
+     */
+    static RecordShape of(org.jooq.Field<?>[] fields) {
+        return new RecordShape(fields == null ? new org.jooq.Field<?>[0] : fields);
+    }
+
+    /**
+     * @param field JOOQ Record의 필드
+     * @return 필드가 속한 테이블(또는 alias)의 이름 (테이블이 없는 필드면 null)
+     */
+    static String tableNameOf(org.jooq.Field<?> field) {
+        if (!(field instanceof TableField))
+            return null;
+
+        // 이름만으로 만든 필드(`DSL.field(Name)`)도 TableField이지만 테이블은 없음
+        final Table<?> table = ((TableField<?, ?>) field).getTable();
+        return table == null ? null : table.getName();
+    }
+
+    private static boolean isGeneratedTableRecord(Record record) {
+        return record instanceof TableRecord
+                && !record.getClass().getName().startsWith("org.jooq.");
+    }
+
+    /**
+     * @param fields JOOQ Record의 필드 목록
+     * @return 이 형태가 주어진 필드 배열 인스턴스로부터 만들어졌는지 여부
+     */
+    boolean isOf(org.jooq.Field<?>[] fields) {
+        return this.fields == fields;
+    }
+
+    org.jooq.Field<?>[] getFields() {
+        return fields;
+    }
+
+    int size() {
+        return fields.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+
+        if (!(o instanceof RecordShape))
+            return false;
+
+        final RecordShape that = (RecordShape) o;
+        return hash == that.hash && Arrays.equals(names, that.names) && Arrays.equals(tableNames, that.tableNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        final String[] qualifiedNames = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            qualifiedNames[i] = tableNames[i] == null ? names[i] : tableNames[i] + "." + names[i];
+        }
+
+        return Arrays.toString(qualifiedNames);
+    }
+}
@@ -0,0 +1,108 @@
+package codehumane.jooq;
+
+import org.jooq.Record;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * 하나의 Pojo 클래스와 {@link Record} 형태(필드 구성) 쌍에 대해 미리 계산해 둔 쓰기 계획.<br/>
+ * {@link RecordMappingPlan}의 반대 방향으로, Pojo 필드 값을 읽고, 변환하고, Record 필드에 할당한다.
+ */
+final class RecordWritePlan {
+
+    private final Step[] steps;
+    private final GeneratedJooqMapper<Object, Record> generated; // 생성된 변환기 (Record 타입이 같을 때만 사용, 없으면 null)
+
+    RecordWritePlan(Step[] steps) {
+        this(steps, null);
+    }
+
+    RecordWritePlan(Step[] steps, GeneratedJooqMapper<Object, Record> generated) {
+        this.steps = steps;
+        this.generated = generated;
+    }
+
+    <S, R extends Record> R map(S source, R record) {
+        if (generated != null && record.getClass() == generated.getRecordType()) {
+            generated.unmap(source, record);
+            return record;
+        }
+
+        for (Step step : steps) {
+            step.map(source, record);
+        }
+
+        return record;
+    }
+
+    /**
+     * 기록된 값과 달라진 필드만 할당 (primary key 필드는 UPDATE의 조건이 되므로 항상 할당)
+     *
+     * @param snapshot {@link PojoSnapshots}에 기록된 Pojo의 필드 값들
+     */
+    <S, R extends Record> R mapChanged(S source, R record, Object[] snapshot) {
+        for (Step step : steps) {
+            step.mapChanged(source, record, snapshot);
+        }
+
+        return record;
+    }
+
+    int size() {
+        return steps.length;
+    }
+
+
+    /**
+     * Pojo 필드 하나를 Record 필드 하나에 할당하는 단계<br/>
+     * 대상 필드는 계획 생성 시점에 Record가 가진 필드 인스턴스로 정해 두므로,
+     * {@link Record#set(org.jooq.Field, Object)}의 필드 위치 탐색은 참조 비교로 끝난다.
+     */
+    static final class Step {
+
+        private final MethodHandle getter;
+        private final int snapshotIndex;
+        private final org.jooq.Field<Object> target;
+        private final boolean primaryKey;
+        private final ConversionCache conversionCache;
+
+        @SuppressWarnings("unchecked")
+        Step(ClassMetadata.FieldMetadata source, org.jooq.Field<?> target, boolean primaryKey,
+             FieldMappers fieldMappers) {
+
+            this.getter = source.getter();
+            this.snapshotIndex = source.getIndex(); // 기록된 값도 같은 클래스의 필드 순서를 따름
+            this.target = (org.jooq.Field<Object>) target;
+            this.primaryKey = primaryKey;
+            this.conversionCache = new ConversionCache(
+                    fieldMappers, target.getType(), target.getName(), source.getType());
+        }
+
+        void map(Object source, Record record) {
+            set(record, get(source));
+        }
+
+        void mapChanged(Object source, Record record, Object[] snapshot) {
+            final Object sourceValue = get(source);
+            if (primaryKey || !PojoSnapshots.unchanged(snapshot, snapshotIndex, sourceValue))
+                set(record, sourceValue);
+        }
+
+        private Object get(Object source) {
+
+            try {
+                return (Object) getter.invokeExact(source);
+            } catch (Throwable e) {
+                throw new JooqRecordMappingException("Source field get failed.", e);
+            }
+        }
+
+        private void set(Record record, Object sourceValue) {
+            // JOOQ는 UPDATE문 생성시에 set 절에 포함시킬 필드를 결정하기 위해 changed 여부를 검사한다.
+            // changed 상태가 되기 위해서는 `record.set`이 명시적으로 호출되어야 함. (혹은 `changed`를 호출할수도 있으나 별로 좋은 방법은 아님)
+            // 그리고 UPDATE 시에는 `null`로 필드값을 할당할 수 있어야 한다.
+            // 따라서, 값이 null이더라도 set을 호출함.
+            record.set(target, sourceValue == null ? null : conversionCache.map(sourceValue));
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package codehumane.jooq;
+
+import codehumane.common.EncodableCodeTable;
+import codehumane.common.ReflectionUtil;
+import org.springframework.util.ClassUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 하나의 {@link ResultSet} 컬럼 구성과 목적지 클래스 쌍에 대해 미리 계산해 둔 변환 계획.<br/>
+ * {@link RecordMappingPlan}과 같은 방식으로 이름을 매칭하지만, jOOQ Record를 만들지 않고 JDBC 값을 바로 목적지 필드에 할당한다.
+ * 기본 변환기만 사용하는 경우 primitive(와 wrapper), String 필드는 타입이 있는 getter(`getLong`, `getInt` 등)로 읽어
+ * boxing 없이 할당하고, 정수나 문자열 code의 Encodable 필드는 {@link EncodableCodeTable}로 바로 변환한다.
+ * 그 외의 필드는 `getObject`로 읽어 {@link FieldMappers}로 변환한다. (중첩 객체 필드는 지원하지 않음)
+ */
+final class ResultSetMappingPlan {
+
+    private final DestinationFactory factory;
+    private final Argument[] arguments;
+    private final Step[] steps; // 기본 생성자로 생성한 뒤 할당할 때 (모든 필드)
+    private final Step[] remainingSteps; // 생성자로 생성한 뒤 할당할 때 (생성자 파라미터와 매칭된 필드 제외)
+
+    private ResultSetMappingPlan(DestinationFactory factory, Argument[] arguments, Step[] steps, Step[] remainingSteps) {
+        this.factory = factory;
+        this.arguments = arguments;
+        this.steps = steps;
+        this.remainingSteps = remainingSteps;
+    }
+
+    /**
+     * @param metaData        ResultSet의 컬럼 정보
+     * @param destinationType 변환 결과 타입 클래스
+     * @param fieldMappers    값 변환에 사용할 변환기 목록 (기본 변환기가 아니면 타입이 있는 getter를 사용하지 않음)
+     * @return 변환 계획
+     * @throws SQLException 컬럼 정보를 읽을 수 없는 경우
+     */
+    static ResultSetMappingPlan of(ResultSetMetaData metaData, Class<?> destinationType, FieldMappers fieldMappers)
+            throws SQLException {
+
+        final DestinationFactory factory = DestinationFactory.of(destinationType);
+        final ClassMetadata metadata = ClassMetadata.of(destinationType);
+        final boolean typed = fieldMappers == FieldMappers.defaults();
+
+        final int columnCount = metaData.getColumnCount();
+        final String[] columnKeys = new String[columnCount + 1]; // JDBC 컬럼 위치는 1부터 시작
+        for (int column = 1; column <= columnCount; column++) {
+            columnKeys[column] = JooqFieldTokenMatcher.normalizeJooqName(metaData.getColumnLabel(column));
+        }
+
+        // 생성자 파라미터는 이름이 같은 컬럼 값으로 채움 (같은 key의 컬럼이 여럿이면 마지막 값)
+        final String[] parameterNames = factory.getParameterNames();
+        final Argument[] arguments = new Argument[parameterNames.length];
+        final Set<String> parameterKeys = new HashSet<>();
+        for (int p = 0; p < parameterNames.length; p++) {
+            final String key = JooqFieldTokenMatcher.normalizePojoName(parameterNames[p]);
+            int matched = -1;
+            for (int column = 1; column <= columnCount; column++) {
+                if (columnKeys[column].equals(key))
+                    matched = column;
+            }
+
+            arguments[p] = new Argument(
+                    matched < 0 ? null : Column.of(matched, metaData.getColumnType(matched),
+                            factory.getParameterTypes()[p], parameterNames[p], fieldMappers, typed),
+                    factory.getParameterDefault(p));
+            if (key != null)
+                parameterKeys.add(key);
+        }
+
+        // 컬럼 순서대로 할당하므로 같은 key의 컬럼이 여럿이면 마지막 값이 남음 (Record 변환과 동일)
+        final List<Step> steps = new ArrayList<>();
+        final List<Step> remainingSteps = new ArrayList<>();
+        for (int column = 1; column <= columnCount; column++) {
+            for (ClassMetadata.FieldMetadata field : metadata.getFields(columnKeys[column])) {
+                final Step step = new Step(Column.of(
+                        column, metaData.getColumnType(column), field.getType(), field.getField().getName(),
+                        fieldMappers, typed), field);
+                steps.add(step);
+                if (!parameterKeys.contains(field.getKey()))
+                    remainingSteps.add(step);
+            }
+        }
+
+        return new ResultSetMappingPlan(
+                factory,
+                arguments,
+                steps.toArray(new Step[steps.size()]),
+                remainingSteps.toArray(new Step[remainingSteps.size()]));
+    }
+
+    /**
+     * 현재 행으로 목적지 객체를 생성하고 값을 할당 (커서는 이동하지 않음)
+     *
+     * @param resultSet 현재 행에 위치한 ResultSet
+     * @return 변환 결과
+     * @throws SQLException 값을 읽을 수 없는 경우
+     */
+    Object create(ResultSet resultSet) throws SQLException {
+        if (arguments.length == 0) {
+            final Object destination = factory.create(null);
+            for (Step step : steps) {
+                step.map(resultSet, destination);
+            }
+
+            return destination;
+        }
+
+        final Object[] values = new Object[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            values[i] = arguments[i].valueOf(resultSet);
+        }
+
+        final Object destination = factory.create(values);
+        for (Step step : remainingSteps) {
+            step.map(resultSet, destination);
+        }
+
+        return destination;
+    }
+
+    int size() {
+        return steps.length;
+    }
+
+
+    /**
+     * 컬럼 값을 읽는 방법 (목적지 타입과 컬럼의 JDBC 타입으로 결정)
+     */
+    enum ColumnReader {
+
+        LONG(long.class) {
+            @Override
+            Object read(ResultSet resultSet, int column) throws SQLException {
+                final long value = resultSet.getLong(column);
+                return resultSet.wasNull() ? null : value;
+            }
+        },
+        INT(int.class) {
+            @Override
+            Object read(ResultSet resultSet, int column) throws SQLException {
+                final int value = resultSet.getInt(column);
+                return resultSet.wasNull() ? null : value;
+            }
+        },
+        SHORT(short.class) {
+            @Override
+            Object read(ResultSet resultSet, int column) throws SQLException {
+                final short value = resultSet.getShort(column);
+                return resultSet.wasNull() ? null : value;
+            }
+        },
+        BYTE(byte.class) {
+            @Override
+            Object read(ResultSet resultSet, int column) throws SQLException {
+                final byte value = resultSet.getByte(column);
+                return resultSet.wasNull() ? null : value;
+            }
+        },
+        DOUBLE(double.class) {
+            @Override
+            Object read(ResultSet resultSet, int column) throws SQLException {
+                final double value = resultSet.getDouble(column);
+                return resultSet.wasNull() ? null : value;
+            }
+        },
+        FLOAT(float.class) {
+            @Override
+            Object read(ResultSet resultSet, int column) throws SQLException {
+                final float value = resultSet.getFloat(column);
+                return resultSet.wasNull() ? null : value;
+            }
+        },
+        BOOLEAN(boolean.class) {
+            @Override
+            Object read(ResultSet resultSet, int column) throws SQLException {
+                final boolean value = resultSet.getBoolean(column);
+                return resultSet.wasNull() ? null : value;
+            }
+        },
+        STRING(String.class) {
+            @Override
+            Object read(ResultSet resultSet, int column) throws SQLException {
+                return resultSet.getString(column);
+            }
+        },
+        OBJECT(Object.class) {
+            @Override
+            Object read(ResultSet resultSet, int column) throws SQLException {
+                return resultSet.getObject(column);
+            }
+        };
+
+        private final Class<?> valueType;
+
+        ColumnReader(Class<?> valueType) {
+            this.valueType = valueType;
+        }
+
+        /**
+         * @return 값을 boxing된 형태로 읽음 (생성자 파라미터와 Encodable code 용도, NULL이면 null)
+         */
+        abstract Object read(ResultSet resultSet, int column) throws SQLException;
+
+        /**
+         * @param type    읽은 값을 할당할 타입 (Encodable이면 code 타입)
+         * @param sqlType 컬럼의 JDBC 타입 ({@link Types})
+         * @return 타입이 있는 getter로 그대로 읽을 수 있으면 해당 방법, 아니면 {@link #OBJECT}
+         */
+        static ColumnReader of(Class<?> type, int sqlType) {
+            final Class<?> boxed = ClassUtils.resolvePrimitiveIfNecessary(type);
+            final boolean integral = sqlType == Types.TINYINT || sqlType == Types.SMALLINT
+                    || sqlType == Types.INTEGER || sqlType == Types.BIGINT;
+
+            // 값의 범위가 좁아지는 조합(bigint → int, bigint → double 등)은 기존과 같이 FieldMappers의 변환을 따름
+            // (손실 여부를 검사하며, int 이하의 정수는 double로 항상 정확히 표현됨)
+            if (boxed == Long.class && integral)
+                return LONG;
+            if (boxed == Integer.class && integral && sqlType != Types.BIGINT)
+                return INT;
+            if (boxed == Short.class && (sqlType == Types.TINYINT || sqlType == Types.SMALLINT))
+                return SHORT;
+            if (boxed == Byte.class && sqlType == Types.TINYINT)
+                return BYTE;
+            if (boxed == Double.class && ((integral && sqlType != Types.BIGINT)
+                    || sqlType == Types.DOUBLE || sqlType == Types.FLOAT || sqlType == Types.REAL))
+                return DOUBLE;
+            if (boxed == Float.class && sqlType == Types.REAL)
+                return FLOAT;
+            if (boxed == Boolean.class && (sqlType == Types.BOOLEAN || sqlType == Types.BIT))
+                return BOOLEAN;
+            if (boxed == String.class && (sqlType == Types.CHAR || sqlType == Types.VARCHAR
+                    || sqlType == Types.LONGVARCHAR || sqlType == Types.NCHAR || sqlType == Types.NVARCHAR
+                    || sqlType == Types.CLOB || sqlType == Types.NCLOB)) // getObject는 CLOB을 Clob 객체로 반환
+                return STRING;
+
+            return OBJECT;
+        }
+    }
+
+
+    /**
+     * 컬럼 하나를 목적지 타입의 값으로 읽는 방법
+     */
+    static final class Column {
+
+        private final int index;
+        private final ColumnReader reader;
+        private final EncodableCodeTable<?> codeTable; // Encodable code를 타입이 있는 getter로 읽는 경우만
+        private final ConversionCache conversionCache; // getObject로 읽는 경우만
+
+        private Column(int index, ColumnReader reader, EncodableCodeTable<?> codeTable,
+                       ConversionCache conversionCache) {
+
+            this.index = index;
+            this.reader = reader;
+            this.codeTable = codeTable;
+            this.conversionCache = conversionCache;
+        }
+
+        static Column of(int index, int sqlType, Class<?> targetType, String targetName,
+                         FieldMappers fieldMappers, boolean typed) {
+
+            if (typed && EncodableCodeTable.isEncodableEnum(targetType)) {
+                // code 타입으로 읽으므로 boxing된 값의 타입이 조회표의 code 타입과 같음
+                final EncodableCodeTable<?> codeTable = EncodableCodeTable.ofType(targetType);
+                final ColumnReader reader = codeTable.getCodeType() == null
+                        ? ColumnReader.OBJECT
+                        : ColumnReader.of(codeTable.getCodeType(), sqlType);
+                if (reader != ColumnReader.OBJECT)
+                    return new Column(index, reader, codeTable, null);
+            } else if (typed) {
+                final ColumnReader reader = ColumnReader.of(targetType, sqlType);
+                if (reader != ColumnReader.OBJECT)
+                    return new Column(index, reader, null, null);
+            }
+
+            return new Column(index, ColumnReader.OBJECT, null,
+                    new ConversionCache(fieldMappers, targetType, targetName, null));
+        }
+
+        /**
+         * @return 값을 직접 할당할 수 있는 primitive 타입 (boxing된 값을 거쳐야 하면 Object)
+         */
+        Class<?> assignableType() {
+            return codeTable == null && reader.valueType.isPrimitive() ? reader.valueType : Object.class;
+        }
+
+        Object read(ResultSet resultSet) throws SQLException {
+            final Object value = reader.read(resultSet, index);
+            if (value == null)
+                return null;
+
+            if (codeTable != null)
+                return codeTable.decode(value);
+
+            return conversionCache == null ? value : conversionCache.map(value);
+        }
+    }
+
+
+    /**
+     * 컬럼 하나를 목적지 필드 하나에 할당하는 단계<br/>
+     * primitive 값은 `(Object, primitive)void` 타입의 setter 핸들로 boxing 없이 할당한다. NULL이면 할당하지 않는다.
+     */
+    static final class Step {
+
+        private final Column column;
+        private final ColumnReader direct; // boxing 없이 할당하는 primitive가 아니면 OBJECT
+        private final MethodHandle setter; // (Object, column.assignableType())void
+
+        Step(Column column, ClassMetadata.FieldMetadata target) {
+            this.column = column;
+            this.direct = column.assignableType() == Object.class ? ColumnReader.OBJECT : column.reader;
+
+            try {
+                this.setter = ReflectionUtil.setterHandle(target.getField(), column.assignableType());
+            } catch (IllegalAccessException e) {
+                throw new JooqRecordMappingException("Field not accessible.", e);
+            }
+        }
+
+        void map(ResultSet resultSet, Object destination) throws SQLException {
+            final int index = column.index;
+
+            try {
+                switch (direct) {
+                    case LONG: {
+                        final long value = resultSet.getLong(index);
+                        if (!resultSet.wasNull())
+                            setter.invokeExact(destination, value);
+                        return;
+                    }
+                    case INT: {
+                        final int value = resultSet.getInt(index);
+                        if (!resultSet.wasNull())
+                            setter.invokeExact(destination, value);
+                        return;
+                    }
+                    case SHORT: {
+                        final short value = resultSet.getShort(index);
+                        if (!resultSet.wasNull())
+                            setter.invokeExact(destination, value);
+                        return;
+                    }
+                    case BYTE: {
+                        final byte value = resultSet.getByte(index);
+                        if (!resultSet.wasNull())
+                            setter.invokeExact(destination, value);
+                        return;
+                    }
+                    case DOUBLE: {
+                        final double value = resultSet.getDouble(index);
+                        if (!resultSet.wasNull())
+                            setter.invokeExact(destination, value);
+                        return;
+                    }
+                    case FLOAT: {
+                        final float value = resultSet.getFloat(index);
+                        if (!resultSet.wasNull())
+                            setter.invokeExact(destination, value);
+                        return;
+                    }
+                    case BOOLEAN: {
+                        final boolean value = resultSet.getBoolean(index);
+                        if (!resultSet.wasNull())
+                            setter.invokeExact(destination, value);
+                        return;
+                    }
+                    default: {
+                        final Object value = column.read(resultSet);
+                        if (value != null)
+                            setter.invokeExact(destination, value);
+                    }
+                }
+            } catch (SQLException | JooqRecordMappingException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new JooqRecordMappingException("Field set failed.", e);
+            }
+        }
+    }
+
+
+    /**
+     * 컬럼 하나를 생성자 파라미터 하나의 값으로 읽는 단계<br/>
+     * 매칭되는 컬럼이 없거나 값이 NULL이면 파라미터의 기본값(primitive는 0 또는 false, 그 외는 null)을 사용한다.
+     */
+    static final class Argument {
+
+        private final Column column; // 매칭되는 컬럼이 없으면 null
+        private final Object defaultValue;
+
+        Argument(Column column, Object defaultValue) {
+            this.column = column;
+            this.defaultValue = defaultValue;
+        }
+
+        Object valueOf(ResultSet resultSet) throws SQLException {
+            if (column == null)
+                return defaultValue;
+
+            final Object value = column.read(resultSet);
+            return value == null ? defaultValue : value;
+        }
+    }
+}
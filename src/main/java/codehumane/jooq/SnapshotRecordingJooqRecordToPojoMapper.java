@@ -0,0 +1,63 @@
+package codehumane.jooq;
+
+import org.jooq.Cursor;
+import org.jooq.Record;
+import org.jooq.Result;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/**
+ * 변환 결과 객체의 필드 값을 {@link PojoSnapshots}에 기록하는 {@link JooqRecordToPojoMapper}<br/>
+ * 같은 {@link PojoSnapshots}를 사용하는 {@link JooqPojoToRecordMapper}는 이후 변경된 필드만 Record에 할당한다.
+ */
+public class SnapshotRecordingJooqRecordToPojoMapper implements JooqRecordToPojoMapper {
+
+    private final JooqRecordToPojoMapper delegate;
+    private final PojoSnapshots snapshots;
+
+    /**
+     * @param delegate  실제 변환을 수행할 변환기
+     * @param snapshots 변환 결과를 기록할 곳
+     */
+    public SnapshotRecordingJooqRecordToPojoMapper(JooqRecordToPojoMapper delegate, PojoSnapshots snapshots) {
+        this.delegate = delegate;
+        this.snapshots = snapshots;
+    }
+
+    @Override
+    public <D, R extends Record> D map(R record, Class<D> destinationType) {
+        return recorded(delegate.map(record, destinationType));
+    }
+
+    @Override
+    public <D, R extends Record> D map(R record, D destination) {
+        return recorded(delegate.map(record, destination));
+    }
+
+    @Override
+    public <D, R extends Record> List<D> mapAll(Result<R> records, Class<D> destinationType) {
+        return recordedAll(delegate.mapAll(records, destinationType));
+    }
+
+    @Override
+    public <D, R extends Record> List<D> mapAll(Result<R> records, Class<D> destinationType, ForkJoinPool pool) {
+        return recordedAll(delegate.mapAll(records, destinationType, pool));
+    }
+
+    @Override
+    public <D, R extends Record> Stream<D> stream(Cursor<R> cursor, Class<D> destinationType) {
+        return delegate.stream(cursor, destinationType).map(this::recorded);
+    }
+
+    private <D> D recorded(D destination) {
+        snapshots.record(destination);
+        return destination;
+    }
+
+    private <D> List<D> recordedAll(List<D> destinations) {
+        destinations.forEach(snapshots::record);
+        return destinations;
+    }
+}
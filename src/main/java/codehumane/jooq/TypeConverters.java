@@ -0,0 +1,184 @@
+package codehumane.jooq;
+
+import codehumane.common.YNBoolean;
+import org.springframework.util.ClassUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * (원본 타입, 목적지 타입) 쌍으로 등록된 값 변환 함수 모음<br/>
+ * 숫자 타입 사이의 확장/축소, 날짜 타입({@link Timestamp}, {@link java.sql.Date}, {@link Date}) ↔ java.time 타입,
+ * {@link YNBoolean} ↔ boolean 변환을 다룬다. 축소 변환에서 값이 손실되면 {@link JooqRecordMappingException}이 발생한다.
+ * 실수 타입으로의 변환도 결과가 원래 값을 그대로 나타내지 못하면(예: 2^53을 넘는 long → double, 0.1d → float) 손실로 본다.<br/>
+ * java.time 타입과 시각 정보가 없는 날짜 타입 사이의 변환은 시스템 기본 시간대를 사용한다.
+ */
+final class TypeConverters {
+
+    private static final List<Class<?>> INTEGRAL_TYPES = Arrays.asList(
+            Byte.class, Short.class, Integer.class, Long.class, BigInteger.class);
+    private static final List<Class<?>> NUMBER_TYPES = Arrays.asList(
+            Byte.class, Short.class, Integer.class, Long.class, BigInteger.class,
+            Float.class, Double.class, BigDecimal.class);
+
+    private static final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> converters = new HashMap<>();
+
+    static {
+        for (Class<?> sourceType : NUMBER_TYPES) {
+            for (Class<?> destinationType : NUMBER_TYPES) {
+                if (sourceType != destinationType)
+                    register(sourceType, destinationType, value -> convertNumber((Number) value, destinationType));
+            }
+        }
+
+        register(Timestamp.class, LocalDateTime.class, value -> ((Timestamp) value).toLocalDateTime());
+        register(Timestamp.class, Instant.class, value -> ((Timestamp) value).toInstant());
+        // 그 외의 Timestamp, java.sql.Date 변환은 상위 클래스인 java.util.Date에 등록된 변환을 사용 (java.sql.Date#toInstant는 지원되지 않음)
+        register(Date.class, LocalDateTime.class, value -> LocalDateTime.ofInstant(Instant.ofEpochMilli(((Date) value).getTime()), zone()));
+        register(Date.class, Instant.class, value -> Instant.ofEpochMilli(((Date) value).getTime()));
+        register(Date.class, LocalDate.class, value -> LocalDateTime.ofInstant(Instant.ofEpochMilli(((Date) value).getTime()), zone()).toLocalDate());
+        register(Date.class, Timestamp.class, value -> new Timestamp(((Date) value).getTime()));
+        register(Date.class, java.sql.Date.class, value -> new java.sql.Date(((Date) value).getTime()));
+
+        register(LocalDateTime.class, Timestamp.class, value -> Timestamp.valueOf((LocalDateTime) value));
+        register(LocalDateTime.class, java.sql.Date.class, value -> java.sql.Date.valueOf(((LocalDateTime) value).toLocalDate()));
+        register(LocalDateTime.class, Date.class, value -> Date.from(((LocalDateTime) value).atZone(zone()).toInstant()));
+        register(LocalDateTime.class, Instant.class, value -> ((LocalDateTime) value).atZone(zone()).toInstant());
+        register(LocalDate.class, java.sql.Date.class, value -> java.sql.Date.valueOf((LocalDate) value));
+        register(LocalDate.class, Timestamp.class, value -> Timestamp.valueOf(((LocalDate) value).atStartOfDay()));
+        register(LocalDate.class, Date.class, value -> Date.from(((LocalDate) value).atStartOfDay(zone()).toInstant()));
+        register(Instant.class, Timestamp.class, value -> Timestamp.from((Instant) value));
+        register(Instant.class, java.sql.Date.class, value -> new java.sql.Date(((Instant) value).toEpochMilli()));
+        register(Instant.class, Date.class, value -> Date.from((Instant) value));
+        register(Instant.class, LocalDateTime.class, value -> LocalDateTime.ofInstant((Instant) value, zone()));
+
+        register(YNBoolean.class, Boolean.class, value -> value == YNBoolean.Y);
+        register(Boolean.class, YNBoolean.class, value -> (Boolean) value ? YNBoolean.Y : YNBoolean.N);
+    }
+
+    private TypeConverters() {
+    }
+
+    private static void register(Class<?> sourceType, Class<?> destinationType, Function<Object, Object> converter) {
+        converters.computeIfAbsent(sourceType, t -> new HashMap<>()).put(destinationType, converter);
+    }
+
+    private static ZoneId zone() {
+        return ZoneId.systemDefault();
+    }
+
+    /**
+     * 원본 타입(없으면 상위 클래스)에 대해 목적지 타입으로 등록된 변환 함수 반환<br/>
+     * primitive 목적지 타입은 wrapper 타입으로 조회한다.
+     *
+     * @param sourceType      원본 값의 타입
+     * @param destinationType 목적지 타입
+     * @return 변환 함수 (없으면 null)
+     */
+    static Function<Object, Object> find(Class<?> sourceType, Class<?> destinationType) {
+        final Class<?> boxedDestinationType = ClassUtils.resolvePrimitiveIfNecessary(destinationType);
+        for (Class<?> type = sourceType; type != null; type = type.getSuperclass()) {
+            final Map<Class<?>, Function<Object, Object>> byDestinationType = converters.get(type);
+            final Function<Object, Object> converter = byDestinationType == null
+                    ? null
+                    : byDestinationType.get(boxedDestinationType);
+
+            if (converter != null)
+                return converter;
+        }
+
+        return null;
+    }
+
+    private static Object convertNumber(Number value, Class<?> destinationType) {
+        if (destinationType == Double.class || destinationType == Float.class)
+            return toFloatingPointExact(value, destinationType);
+        if (destinationType == BigDecimal.class)
+            return toBigDecimal(value);
+        if (destinationType == BigInteger.class)
+            return toBigIntegerExact(value);
+
+        final long longValue = toLongExact(value);
+        if (destinationType == Long.class)
+            return longValue;
+        if (destinationType == Integer.class && longValue == (int) longValue)
+            return (int) longValue;
+        if (destinationType == Short.class && longValue == (short) longValue)
+            return (short) longValue;
+        if (destinationType == Byte.class && longValue == (byte) longValue)
+            return (byte) longValue;
+
+        throw new JooqRecordMappingException(String.format(
+                "Numeric value out of range. [%s → %s]", value, destinationType.getSimpleName()));
+    }
+
+    private static Object toFloatingPointExact(Number value, Class<?> destinationType) {
+        if (destinationType == Double.class) {
+            final double converted = value.doubleValue();
+            if (isExact(value, converted, Double.toString(converted)))
+                return converted;
+        } else {
+            final float converted = value.floatValue();
+            if (isExact(value, converted, Float.toString(converted)))
+                return converted;
+        }
+
+        throw new JooqRecordMappingException(String.format(
+                "Numeric value cannot be converted without loss. [%s → %s]", value, destinationType.getSimpleName()));
+    }
+
+    // 실수는 값을 그대로 비교하고, 정수는 변환 결과의 정확한 값과, BigDecimal은 변환 결과의 최단 십진 표현(예: 0.1)과 비교
+    private static boolean isExact(Number value, double converted, String convertedText) {
+        if (value instanceof Float || value instanceof Double)
+            return Double.isNaN(converted) ? Double.isNaN(value.doubleValue()) : converted == value.doubleValue();
+        if (Double.isInfinite(converted))
+            return false;
+
+        final BigDecimal exact = value instanceof BigDecimal ? new BigDecimal(convertedText) : new BigDecimal(converted);
+        return exact.compareTo(toBigDecimal(value)) == 0;
+    }
+
+    private static BigDecimal toBigDecimal(Number value) {
+        if (value instanceof BigDecimal)
+            return (BigDecimal) value;
+        if (value instanceof BigInteger)
+            return new BigDecimal((BigInteger) value);
+        if (INTEGRAL_TYPES.contains(value.getClass()))
+            return BigDecimal.valueOf(value.longValue());
+
+        return BigDecimal.valueOf(value.doubleValue());
+    }
+
+    private static BigInteger toBigIntegerExact(Number value) {
+
+        try {
+            return toBigDecimal(value).toBigIntegerExact();
+        } catch (ArithmeticException e) {
+            throw new JooqRecordMappingException(String.format(
+                    "Numeric value cannot be converted without loss. [%s]", value), e);
+        }
+    }
+
+    private static long toLongExact(Number value) {
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long)
+            return value.longValue();
+
+        try {
+            return toBigDecimal(value).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new JooqRecordMappingException(String.format(
+                    "Numeric value cannot be converted without loss. [%s]", value), e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package codehumane.common;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class EncodableCodeTableTest {
+
+    @Test
+    public void decode_문자열_code에_해당하는_상수를_찾는다() throws Exception {
+        assertEquals(YNBoolean.Y, EncodableCodeTable.of(YNBoolean.class).decode("Y"));
+        assertEquals(YNBoolean.N, YNBoolean.codeOf("N"));
+        assertNull(YNBoolean.codeOf("X"));
+        assertNull(YNBoolean.codeOf(null));
+    }
+
+    @Test
+    public void decode_정수_code는_타입까지_일치해야_한다() throws Exception {
+        final EncodableCodeTable<ByteCode> table = EncodableCodeTable.of(ByteCode.class);
+
+        assertEquals(Byte.class, table.getCodeType());
+        assertEquals(ByteCode.ON, table.decode((byte) 1));
+        assertEquals(ByteCode.OFF, table.decode((byte) 0));
+        assertNull("범위를 벗어난 code", table.decode((byte) 7));
+        assertNull("타입이 다른 code", table.decode(1));
+    }
+
+    @Test
+    public void decode_범위가_넓은_정수_code도_찾는다() throws Exception {
+        final EncodableCodeTable<SparseCode> table = EncodableCodeTable.of(SparseCode.class);
+
+        assertEquals(SparseCode.LOW, table.decode(-1000));
+        assertEquals(SparseCode.HIGH, table.decode(1000));
+        assertNull(table.decode(0));
+    }
+
+    @Test
+    public void of_클래스마다_같은_조회표를_반환한다() throws Exception {
+        assertSame(EncodableCodeTable.of(YNBoolean.class), EncodableCodeTable.ofType(YNBoolean.class));
+    }
+
+
+    enum ByteCode implements Encodable<Byte> {
+
+        ON((byte) 1), OFF((byte) 0);
+
+        private final Byte code;
+
+        ByteCode(Byte code) {
+            this.code = code;
+        }
+
+        @Override
+        public Byte getCode() {
+            return code;
+        }
+    }
+
+    enum SparseCode implements Encodable<Integer> {
+
+        LOW(-1000), HIGH(1000);
+
+        private final Integer code;
+
+        SparseCode(Integer code) {
+            this.code = code;
+        }
+
+        @Override
+        public Integer getCode() {
+            return code;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package codehumane.jooq;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class ClassMetadataTest {
+
+    @Test
+    public void of_클래스마다_한_번만_계산한다() throws Exception {
+        assertSame(ClassMetadata.of(DummyPojo.class), ClassMetadata.of(DummyPojo.class));
+    }
+
+    @Test
+    public void getFields_static_필드와_가려진_부모_필드는_제외한다() throws Exception {
+        // when
+        final List<String> names = ClassMetadata.of(Child.class).getFields().stream()
+                .map(field -> field.getField().getDeclaringClass().getSimpleName() + "." + field.getField().getName())
+                .collect(Collectors.toList());
+
+        // then
+        assertEquals(3, names.size());
+        assertTrue(names.contains("Parent.parentOnly"));
+        assertTrue(names.contains("Child.shadowed"));
+        assertTrue(names.contains("Child.childOnly"));
+    }
+
+    @Test
+    public void getFields_정규화된_key로_필드를_조회한다() throws Exception {
+        // when
+        final List<ClassMetadata.FieldMetadata> fields = ClassMetadata.of(Child.class).getFields("child_only");
+
+        // then
+        assertEquals(1, fields.size());
+        assertEquals("childOnly", fields.get(0).getField().getName());
+        assertTrue(ClassMetadata.of(Child.class).getFields("nothing").isEmpty());
+        assertTrue(ClassMetadata.of(Child.class).getFields(null).isEmpty());
+    }
+
+    static class Parent {
+        static String CONSTANT = "constant";
+        String parentOnly;
+        String shadowed;
+    }
+
+    static class Child extends Parent {
+        String shadowed;
+        Long childOnly;
+    }
+}
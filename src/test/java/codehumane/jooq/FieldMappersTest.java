@@ -0,0 +1,83 @@
+package codehumane.jooq;
+
+import codehumane.common.YNBoolean;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class FieldMappersTest {
+
+    private final FieldMappers fieldMappers = FieldMappers.defaults();
+
+    @Test
+    public void find_숫자_타입_사이를_확장하거나_손실_없이_축소한다() throws Exception {
+        assertEquals(3L, map(3, Long.class));
+        assertEquals(3, map(3L, int.class));
+        assertEquals((byte) 3, map(3.0d, Byte.class));
+        assertEquals(3.5d, map(3.5f, Double.class));
+    }
+
+    @Test(expected = JooqRecordMappingException.class)
+    public void find_축소_변환에서_값이_손실되면_예외가_발생한다() throws Exception {
+        map(128, Byte.class);
+    }
+
+    @Test
+    public void find_실수_타입으로는_값을_그대로_나타낼_수_있으면_변환한다() throws Exception {
+        assertEquals((double) (1L << 53), map(1L << 53, Double.class));
+        assertEquals(0.1d, map(new BigDecimal("0.1"), Double.class));
+        assertEquals(0.5f, map(0.5d, Float.class));
+    }
+
+    @Test(expected = JooqRecordMappingException.class)
+    public void find_long을_double로_변환할_때_정밀도가_손실되면_예외가_발생한다() throws Exception {
+        map((1L << 53) + 1, Double.class);
+    }
+
+    @Test(expected = JooqRecordMappingException.class)
+    public void find_double을_float로_변환할_때_정밀도가_손실되면_예외가_발생한다() throws Exception {
+        map(0.1d, Float.class);
+    }
+
+    @Test
+    public void find_날짜_타입과_java_time_타입_사이를_변환한다() throws Exception {
+        final LocalDateTime localDateTime = LocalDateTime.of(2016, 12, 26, 17, 17, 32, 123000000);
+        final Timestamp timestamp = Timestamp.valueOf(localDateTime);
+
+        assertEquals(localDateTime, map(timestamp, LocalDateTime.class));
+        assertEquals(timestamp, map(localDateTime, Timestamp.class));
+        assertEquals(timestamp.toInstant(), map(timestamp, Instant.class));
+        assertEquals(timestamp, map(timestamp.toInstant(), Timestamp.class));
+        assertEquals("Timestamp 필드에는 Timestamp가 할당되어야 한다.",
+                Timestamp.class, map(new Date(timestamp.getTime()), Timestamp.class).getClass());
+    }
+
+    @Test
+    public void find_YNBoolean과_boolean_사이를_변환한다() throws Exception {
+        assertEquals(true, map(YNBoolean.Y, boolean.class));
+        assertEquals(false, map(YNBoolean.N, Boolean.class));
+        assertEquals(YNBoolean.Y, map(true, YNBoolean.class));
+    }
+
+    @Test
+    public void find_Encodable의_code와_타입이_다른_숫자도_code_타입으로_변환하여_매칭한다() throws Exception {
+        assertEquals(DummyPojo.IntegerEnum.N, map((byte) 0, DummyPojo.IntegerEnum.class));
+        assertEquals((byte) 0, map(DummyPojo.IntegerEnum.N, Byte.class));
+    }
+
+    @Test
+    public void find_변환할_수_없는_타입_쌍이면_null을_반환한다() throws Exception {
+        assertNull(fieldMappers.find(String.class, Long.class));
+    }
+
+    private Object map(Object value, Class<?> destinationType) {
+        return fieldMappers.find(value.getClass(), destinationType).map(value, destinationType);
+    }
+}
@@ -0,0 +1,97 @@
+package codehumane.jooq;
+
+import codehumane.common.YNBoolean;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.sql.Timestamp;
+
+import static org.junit.Assert.*;
+
+@RunWith(SpringRunner.class)
+@Import(JooqTestConfig.class)
+public class GeneratedJooqMapperTest {
+
+    @Autowired
+    private DSLContext dslContext;
+
+    private CachedJooqRecordToPojoMapper mapper = new CachedJooqRecordToPojoMapper();
+
+    @Test
+    public void find_JooqMapped_Pojo는_컴파일_시점에_생성된_변환기를_찾는다() throws Exception {
+        assertEquals(JooqMappedPojo_JooqMapper.class, GeneratedJooqMappers.find(JooqMappedPojo.class).getClass());
+        assertNull(GeneratedJooqMappers.find(DummyPojo.class));
+        assertEquals("codehumane.jooq.JooqRecordToPojoMapperTest_ImmutablePojo_JooqMapper",
+                GeneratedJooqMappers.generatedNameOf(JooqRecordToPojoMapperTest.ImmutablePojo.class));
+    }
+
+    @Test
+    public void map_테이블의_Record는_생성된_변환기로_변환한다() throws Exception {
+        // given
+        final DummyJooqTableRecord record = dslContext.newRecord(DummyJooqTable.DUMMY_JOOQ_TABLE);
+        record.setId(1);
+        record.setVarchar("바차");
+        record.setInteger11(11);
+        record.setVarcharEnum("CODE_B");
+        record.setTinyintEnum((byte) 1);
+        record.setTimestamp(new Timestamp(1000L));
+        record.setJooqEnum(DummyJooqEnum.N);
+
+        // when
+        final JooqMappedPojo mapped = mapper.map(record, JooqMappedPojo.class);
+
+        // then
+        assertEquals(Long.valueOf(1), mapped.id);
+        assertEquals("바차", mapped.varchar);
+        assertEquals(11, mapped.integer11);
+        assertEquals(DummyPojo.VarcharEnum.TYPE_B, mapped.varcharEnum);
+        assertEquals(DummyPojo.ByteEnum.Y, mapped.tinyintEnum);
+        assertEquals(new Timestamp(1000L), mapped.timestamp);
+        assertEquals(YNBoolean.N, mapped.jooqEnum);
+    }
+
+    @Test
+    public void map_테이블의_Record가_아니면_변환_계획으로_변환한다() throws Exception {
+        // given
+        final Record record = dslContext.newRecord(
+                DummyJooqTable.DUMMY_JOOQ_TABLE.VARCHAR, DummyJooqTable.DUMMY_JOOQ_TABLE.VARCHAR_ENUM);
+        record.set(DummyJooqTable.DUMMY_JOOQ_TABLE.VARCHAR, "바차");
+        record.set(DummyJooqTable.DUMMY_JOOQ_TABLE.VARCHAR_ENUM, "CODE_A");
+
+        // when
+        final JooqMappedPojo mapped = mapper.map(record, JooqMappedPojo.class);
+
+        // then
+        assertEquals("바차", mapped.varchar);
+        assertEquals(DummyPojo.VarcharEnum.TYPE_A, mapped.varcharEnum);
+    }
+
+    @Test
+    public void newRecord_생성된_변환기로_Pojo의_값을_Record에_할당한다() throws Exception {
+        // given
+        final JooqMappedPojo pojo = new JooqMappedPojo();
+        pojo.id = 2L;
+        pojo.varchar = "바차";
+        pojo.integer11 = 22;
+        pojo.varcharEnum = DummyPojo.VarcharEnum.TYPE_A;
+        pojo.jooqEnum = YNBoolean.Y;
+
+        // when
+        final DummyJooqTableRecord record = new JooqRecordUnmapper(dslContext)
+                .newRecord(DummyJooqTable.DUMMY_JOOQ_TABLE, pojo);
+
+        // then
+        assertEquals(Integer.valueOf(2), record.getId());
+        assertEquals("바차", record.getVarchar());
+        assertEquals(Integer.valueOf(22), record.getInteger11());
+        assertEquals("CODE_A", record.getVarcharEnum());
+        assertEquals(DummyJooqEnum.Y, record.getJooqEnum());
+        assertNull(record.getTinyintEnum());
+        assertTrue(record.changed(DummyJooqTable.DUMMY_JOOQ_TABLE.TINYINT_ENUM)); // null도 할당
+    }
+}
@@ -0,0 +1,315 @@
+package codehumane.jooq;
+
+import codehumane.common.Identifiable;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.conf.RenderNameStyle;
+import org.jooq.conf.Settings;
+import org.jooq.impl.AbstractKeys;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+import org.jooq.impl.UpdatableRecordImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(SpringRunner.class)
+@Import(JooqTestConfig.class)
+public class JooqBatchWriterTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private DSLContext dslContext;
+
+    @Before
+    public void setup() throws Exception {
+        dslContext = dslContext(new Settings());
+
+        // batch의 bind 값은 컬럼 타입으로 cast되어 렌더링되므로, DummyJooqEnum의 타입 이름을 H2에도 선언
+        dslContext.execute("create domain jooq_enum_type as varchar(1)");
+        dslContext.execute("create table table_for_jooq_test(" +
+                "    id int null," +
+                "    creator int null," +
+                "    modifier int null," +
+                "    create_date timestamp null," +
+                "    last_modified_date timestamp null," +
+                "    clob_aaa_bbb333 varchar(255) null," +
+                "    varchar varchar(32) not null," +
+                "    tinyint tinyint null," +
+                "    smallint smallint null," +
+                "    integer11 int null," +
+                "    long22 bigint null," +
+                "    double321 double null," +
+                "    varchar_enum varchar(10) null," +
+                "    tinyint_enum tinyint null," +
+                "    integer_enum int null," +
+                "    timestamp timestamp null," +
+                "    jooq_enum varchar(1) null" +
+                ")");
+        dslContext.execute("create table account(" +
+                "    id bigint primary key," +
+                "    name varchar(32) not null," +
+                "    point int default 100 null" +
+                ")");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        dslContext.execute("drop table account");
+        dslContext.execute("drop table table_for_jooq_test");
+        dslContext.execute("drop domain jooq_enum_type");
+    }
+
+    // 생성된 테이블 클래스의 스키마(dev_dums)는 테스트 DB에 없으므로 스키마 없이, 이름은 따옴표 없이 렌더링
+    private DSLContext dslContext(Settings settings) {
+        return DSL.using(dataSource, SQLDialect.H2, settings
+                .withRenderSchema(false)
+                .withRenderNameStyle(RenderNameStyle.AS_IS));
+    }
+
+    @Test
+    public void insertAll_chunk_크기로_나누어_모든_Pojo를_저장한다() throws Exception {
+        // given
+        final JooqBatchWriter writer = new JooqBatchWriter(dslContext, 2, false);
+
+        // when
+        final int written = writer.insertAll(dummyPojos(5), DummyJooqTable.DUMMY_JOOQ_TABLE);
+
+        // then
+        assertEquals(5, written);
+        assertEquals(5, dslContext.fetchCount(DummyJooqTable.DUMMY_JOOQ_TABLE));
+        assertEquals(
+                IntStream.range(0, 5).mapToObj(i -> "바차" + i).collect(Collectors.toList()),
+                dslContext.select(DummyJooqTable.DUMMY_JOOQ_TABLE.VARCHAR)
+                        .from(DummyJooqTable.DUMMY_JOOQ_TABLE)
+                        .orderBy(DummyJooqTable.DUMMY_JOOQ_TABLE.INTEGER11)
+                        .fetch(DummyJooqTable.DUMMY_JOOQ_TABLE.VARCHAR));
+    }
+
+    @Test
+    public void insertAll_chunk마다_commit하는_경우에도_Stream의_모든_Pojo를_저장한다() throws Exception {
+        // given
+        final JooqBatchWriter writer = new JooqBatchWriter(dslContext, 3, true);
+
+        // when
+        final int written = writer.insertAll(dummyPojos(7).stream(), DummyJooqTable.DUMMY_JOOQ_TABLE);
+
+        // then
+        assertEquals(7, written);
+        assertEquals(7, dslContext.fetchCount(DummyJooqTable.DUMMY_JOOQ_TABLE));
+    }
+
+    @Test
+    public void insertAll_null인_필드도_NULL로_저장한다() throws Exception {
+        // given
+        final JooqBatchWriter writer = new JooqBatchWriter(dslContext, 2, false);
+
+        // when
+        writer.insertAll(accounts(3, null), AccountTable.ACCOUNT);
+
+        // then (컬럼의 기본값이 아닌 Pojo의 값인 NULL이 저장되어야 함)
+        assertEquals(3, dslContext.fetchCount(AccountTable.ACCOUNT, AccountTable.ACCOUNT.POINT.isNull()));
+    }
+
+    @Test
+    public void updateAll_chunk_크기로_나누어_primary_key로_찾은_행을_갱신한다() throws Exception {
+        // given
+        final JooqBatchWriter writer = new JooqBatchWriter(dslContext, 2, false);
+        writer.insertAll(accounts(5, 10), AccountTable.ACCOUNT);
+        final List<Account> updated = accounts(5, 20);
+        updated.get(4).point = null;
+
+        // when
+        final int written = writer.updateAll(updated, AccountTable.ACCOUNT);
+
+        // then
+        assertEquals(5, written);
+        assertEquals(Arrays.asList(20, 21, 22, 23, null), fetchPoints());
+    }
+
+    @Test
+    public void updateAll_chunk마다_commit하는_경우에도_Stream의_모든_Pojo를_갱신한다() throws Exception {
+        // given
+        final JooqBatchWriter writer = new JooqBatchWriter(dslContext, 3, true);
+        writer.insertAll(accounts(7, 10), AccountTable.ACCOUNT);
+
+        // when
+        final int written = writer.updateAll(accounts(7, 30).stream(), AccountTable.ACCOUNT);
+
+        // then
+        assertEquals(7, written);
+        assertEquals(Arrays.asList(30, 31, 32, 33, 34, 35, 36), fetchPoints());
+    }
+
+    @Test
+    public void updateAll_updatablePrimaryKeys_설정에서도_chunk마다_각_Pojo의_행을_갱신한다() throws Exception {
+        // given (chunk 크기보다 많은 Pojo를 갱신)
+        final DSLContext updatablePrimaryKeysContext = dslContext(new Settings().withUpdatablePrimaryKeys(true));
+        final JooqBatchWriter writer = new JooqBatchWriter(updatablePrimaryKeysContext, 2, false);
+        writer.insertAll(accounts(4, 10), AccountTable.ACCOUNT);
+
+        // when
+        writer.updateAll(accounts(4, 40), AccountTable.ACCOUNT);
+
+        // then
+        assertEquals(Arrays.asList(40, 41, 42, 43), fetchPoints());
+    }
+
+    @Test
+    public void insertAll_변환_직후_값이_기록된_Pojo도_모든_필드를_저장한다() throws Exception {
+        // given (조회한 행을 지우고 같은 Pojo로 다시 저장)
+        final PojoSnapshots snapshots = new PojoSnapshots();
+        final JooqBatchWriter writer = new JooqBatchWriter(dslContext, 2, false, snapshots);
+        writer.insertAll(accounts(3, 10), AccountTable.ACCOUNT);
+        final List<Account> fetched = fetchAccounts(snapshots);
+        dslContext.deleteFrom(AccountTable.ACCOUNT).execute();
+
+        // when
+        writer.insertAll(fetched, AccountTable.ACCOUNT);
+
+        // then
+        assertEquals(Arrays.asList(10, 11, 12), fetchPoints());
+        assertEquals(
+                Arrays.asList("계정0", "계정1", "계정2"),
+                dslContext.select(AccountTable.ACCOUNT.NAME)
+                        .from(AccountTable.ACCOUNT)
+                        .orderBy(AccountTable.ACCOUNT.ID)
+                        .fetch(AccountTable.ACCOUNT.NAME));
+    }
+
+    @Test
+    public void updateAll_변환_직후_값이_기록된_Pojo는_달라진_필드만_갱신한다() throws Exception {
+        // given
+        final PojoSnapshots snapshots = new PojoSnapshots();
+        final JooqBatchWriter writer = new JooqBatchWriter(dslContext, 2, false, snapshots);
+        writer.insertAll(accounts(3, 10), AccountTable.ACCOUNT);
+        final List<Account> fetched = fetchAccounts(snapshots);
+        fetched.forEach(account -> account.point += 100);
+
+        // Pojo 조회 이후 다른 곳에서 바꾼 이름은, Pojo에서 바뀌지 않았으므로 덮어쓰지 않아야 함
+        dslContext.update(AccountTable.ACCOUNT).set(AccountTable.ACCOUNT.NAME, "변경됨").execute();
+
+        // when
+        writer.updateAll(fetched, AccountTable.ACCOUNT);
+
+        // then
+        assertEquals(Arrays.asList(110, 111, 112), fetchPoints());
+        assertEquals(3, dslContext.fetchCount(AccountTable.ACCOUNT, AccountTable.ACCOUNT.NAME.eq("변경됨")));
+    }
+
+    private List<Account> fetchAccounts(PojoSnapshots snapshots) {
+        return new SnapshotRecordingJooqRecordToPojoMapper(new CachedJooqRecordToPojoMapper(), snapshots)
+                .mapAll(dslContext.selectFrom(AccountTable.ACCOUNT).orderBy(AccountTable.ACCOUNT.ID).fetch(), Account.class);
+    }
+
+    private List<Integer> fetchPoints() {
+        return dslContext.select(AccountTable.ACCOUNT.POINT)
+                .from(AccountTable.ACCOUNT)
+                .orderBy(AccountTable.ACCOUNT.ID)
+                .fetch(AccountTable.ACCOUNT.POINT);
+    }
+
+    // id는 1부터, point는 pointFrom부터 1씩 증가 (pointFrom이 null이면 point도 null)
+    private static List<Account> accounts(int count, Integer pointFrom) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    final Account account = new Account();
+                    account.id = (long) i + 1;
+                    account.name = "계정" + i;
+                    account.point = pointFrom == null ? null : pointFrom + i;
+                    return account;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static List<DummyPojo> dummyPojos(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    final DummyPojo dummyPojo = new DummyPojo();
+                    dummyPojo.varchar = "바차" + i;
+                    dummyPojo.integer11 = i;
+                    dummyPojo.varcharEnum = DummyPojo.VarcharEnum.TYPE_A;
+                    return dummyPojo;
+                })
+                .collect(Collectors.toList());
+    }
+
+
+    static class Account implements Identifiable<Long> {
+
+        Long id;
+        String name;
+        Integer point;
+
+        @Override
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+    }
+
+    static class AccountRecord extends UpdatableRecordImpl<AccountRecord> {
+
+        private static final long serialVersionUID = 1L;
+
+        public AccountRecord() {
+            super(AccountTable.ACCOUNT);
+        }
+    }
+
+    static class AccountTable extends TableImpl<AccountRecord> {
+
+        private static final long serialVersionUID = 1L;
+
+        static final AccountTable ACCOUNT = new AccountTable();
+
+        final TableField<AccountRecord, Long> ID = createField("id", SQLDataType.BIGINT.nullable(false), this, "");
+        final TableField<AccountRecord, String> NAME = createField("name", SQLDataType.VARCHAR.length(32).nullable(false), this, "");
+        final TableField<AccountRecord, Integer> POINT = createField("point", SQLDataType.INTEGER, this, "");
+
+        AccountTable() {
+            super("account");
+        }
+
+        @Override
+        public Class<AccountRecord> getRecordType() {
+            return AccountRecord.class;
+        }
+
+        @Override
+        public UniqueKey<AccountRecord> getPrimaryKey() {
+            return Keys.PK_ACCOUNT;
+        }
+
+        @Override
+        public List<UniqueKey<AccountRecord>> getKeys() {
+            return Collections.singletonList(Keys.PK_ACCOUNT);
+        }
+    }
+
+    private static class Keys extends AbstractKeys {
+
+        static final UniqueKey<AccountRecord> PK_ACCOUNT = createUniqueKey(AccountTable.ACCOUNT, AccountTable.ACCOUNT.ID);
+    }
+}
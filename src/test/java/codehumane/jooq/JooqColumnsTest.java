@@ -0,0 +1,185 @@
+package codehumane.jooq;
+
+import org.jooq.Cursor;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(SpringRunner.class)
+@Import(JooqTestConfig.class)
+public class JooqColumnsTest {
+
+    @Autowired
+    private JooqDataFixture jooqDataFixture;
+
+    @Before
+    public void setup() throws Exception {
+        jooqDataFixture.createTable();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        jooqDataFixture.deleteTable();
+    }
+
+    @Test
+    public void mapColumns_Pojo_필드마다_타입에_맞는_배열로_모은다() throws Exception {
+        // given
+        jooqDataFixture.insertRecord(1);
+        jooqDataFixture.insertRecord(2);
+        jooqDataFixture.insertRecord(3);
+
+        // when
+        final JooqColumns<ColumnsPojo> columns = new CachedJooqRecordToPojoMapper()
+                .mapColumns(jooqDataFixture.selectAllRecords(), ColumnsPojo.class);
+
+        // then
+        assertEquals(3, columns.size());
+        assertEquals(new LinkedHashSet<>(Arrays.asList("id", "integer11", "double321", "varcharEnum", "varchar")),
+                columns.getFieldNames());
+        assertArrayEquals(new long[]{1, 2, 3}, columns.getLongs("id"));
+        assertArrayEquals(new int[]{3333333, 3333333, 3333333}, columns.getInts("integer11"));
+        assertEquals(3333333333333333333d, columns.getDoubles("double321")[2], 0);
+        assertArrayEquals(new int[]{0, 0, 0}, columns.getOrdinals("varcharEnum"));
+        assertEquals("하하하하하하하", columns.getObjects("varchar")[1]);
+        assertTrue(columns.getNulls("id").isEmpty());
+    }
+
+    @Test
+    public void mapColumns_Cursor를_순회한_뒤_행_수에_맞게_배열을_줄인다() throws Exception {
+        // given
+        for (int id = 1; id <= 20; id++) {
+            jooqDataFixture.insertRecord(id);
+        }
+
+        // when
+        final Cursor<Record> cursor = jooqDataFixture.selectAllRecordsLazily();
+        final JooqColumns<ColumnsPojo> columns = new CachedJooqRecordToPojoMapper()
+                .mapColumns(cursor, ColumnsPojo.class);
+
+        // then
+        assertEquals(20, columns.size());
+        assertEquals(20, columns.getLongs("id").length);
+        assertEquals(20L, columns.getLongs("id")[19]);
+    }
+
+    @Test
+    public void mapColumns_Cursor의_행을_변환하다_실패해도_커서를_닫는다() throws Exception {
+        // given (끝까지 읽은 커서는 Jooq가 스스로 닫으므로, 첫 행에서 실패하도록 short 범위를 넘는 값을 사용)
+        for (int id = 1; id <= 3; id++) {
+            jooqDataFixture.insertRecord(id);
+        }
+        final Cursor<Record> cursor = jooqDataFixture.selectAllRecordsLazily();
+
+        // when
+        try {
+            new CachedJooqRecordToPojoMapper().mapColumns(cursor, ShortColumnsPojo.class);
+            fail("short 범위를 넘는 값은 변환할 수 없어야 한다.");
+        } catch (JooqRecordMappingException expected) {
+            // then
+            assertTrue(cursor.isClosed());
+        }
+    }
+
+    @Test
+    public void mapColumns_null인_값은_null_bitmap에_표시하고_ordinal은_마이너스_1로_담는다() throws Exception {
+        // given
+        final DummyJooqTable dummy = DummyJooqTable.DUMMY_JOOQ_TABLE;
+        final Result<Record> records = DSL.using(SQLDialect.H2).newResult(new Field<?>[]{dummy.ID, dummy.INTEGER11, dummy.VARCHAR_ENUM});
+        records.add(record(1, 10, "CODE_B"));
+        records.add(record(2, null, null));
+
+        // when
+        final JooqColumns<ColumnsPojo> columns = new CachedJooqRecordToPojoMapper().mapColumns(records, ColumnsPojo.class);
+
+        // then
+        assertArrayEquals(new int[]{10, 0}, columns.getInts("integer11"));
+        assertFalse(columns.isNull("integer11", 0));
+        assertTrue(columns.isNull("integer11", 1));
+        assertArrayEquals(new int[]{DummyPojo.VarcharEnum.TYPE_B.ordinal(), -1}, columns.getOrdinals("varcharEnum"));
+        assertTrue(columns.isNull("varcharEnum", 1));
+    }
+
+    @Test(expected = JooqRecordMappingException.class)
+    public void mapColumns_int_값을_short_필드의_열로_담을_때_범위를_넘으면_예외가_발생한다() throws Exception {
+        // given
+        final DummyJooqTable dummy = DummyJooqTable.DUMMY_JOOQ_TABLE;
+        final Result<Record> records = DSL.using(SQLDialect.H2).newResult(new Field<?>[]{dummy.ID, dummy.INTEGER11, dummy.VARCHAR_ENUM});
+        records.add(record(1, 10, null));
+        records.add(record(2, 100000, null));
+
+        // when
+        new CachedJooqRecordToPojoMapper().mapColumns(records, ShortColumnsPojo.class);
+    }
+
+    @Test(expected = JooqRecordMappingException.class)
+    public void mapColumns_double_값을_float_필드의_열로_담을_때_정밀도를_잃으면_예외가_발생한다() throws Exception {
+        // given
+        final DummyJooqTable dummy = DummyJooqTable.DUMMY_JOOQ_TABLE;
+        final Result<Record> records = DSL.using(SQLDialect.H2).newResult(new Field<?>[]{dummy.DOUBLE321});
+        final Record record = DSL.using(SQLDialect.H2).newRecord(new Field<?>[]{dummy.DOUBLE321});
+        record.set(dummy.DOUBLE321, 0.1d);
+        records.add(record);
+
+        // when
+        new CachedJooqRecordToPojoMapper().mapColumns(records, FloatColumnsPojo.class);
+    }
+
+    @Test(expected = JooqRecordMappingException.class)
+    public void getLongs_열의_배열_타입과_다르면_예외가_발생한다() throws Exception {
+        // given
+        jooqDataFixture.insertRecord();
+        final JooqColumns<ColumnsPojo> columns = new CachedJooqRecordToPojoMapper()
+                .mapColumns(jooqDataFixture.selectAllRecords(), ColumnsPojo.class);
+
+        // when
+        columns.getLongs("integer11");
+    }
+
+    private static Record record(int id, Integer integer11, String varcharEnum) {
+        final DummyJooqTable dummy = DummyJooqTable.DUMMY_JOOQ_TABLE;
+        final Record record = DSL.using(SQLDialect.H2).newRecord(dummy.ID, dummy.INTEGER11, dummy.VARCHAR_ENUM);
+        record.set(dummy.ID, id);
+        record.set(dummy.INTEGER11, integer11);
+        record.set(dummy.VARCHAR_ENUM, varcharEnum);
+        return record;
+    }
+
+
+    public static class ColumnsPojo {
+
+        long id;
+        int integer11;
+        Double double321;
+        DummyPojo.VarcharEnum varcharEnum;
+        String varchar;
+    }
+
+    public static class ShortColumnsPojo {
+
+        short integer11;
+    }
+
+    public static class FloatColumnsPojo {
+
+        float double321;
+    }
+}
@@ -1,7 +1,10 @@
 package codehumane.jooq;
 
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
 import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
 
 public class JooqDataFixture {
 
@@ -37,8 +40,12 @@ public class JooqDataFixture {
     }
 
     void insertRecord() {
+        insertRecord(1004);
+    }
+
+    void insertRecord(long id) {
         dslContext.execute("insert into table_for_jooq_test values" +
-                "('1004', " +
+                "('" + id + "', " +
                 "'5', " +
                 "'6', " +
                 "'2016-12-26 17:17:32', " +
@@ -67,4 +74,16 @@ public class JooqDataFixture {
                 withProjection ? "id, creator, varchar_enum" : "*"
         ));
     }
+
+    Result<Record> selectAllRecords() {
+        return dslContext.fetch("select * from table_for_jooq_test order by id");
+    }
+
+    Cursor<Record> selectAllRecordsLazily() {
+        return dslContext.fetchLazy("select * from table_for_jooq_test order by id");
+    }
+
+    ResultQuery<Record> selectAllRecordsQuery() {
+        return dslContext.resultQuery("select * from table_for_jooq_test order by id");
+    }
 }
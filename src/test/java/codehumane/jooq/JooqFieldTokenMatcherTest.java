@@ -2,8 +2,13 @@ package codehumane.jooq;
 
 import static org.junit.Assert.*;
 
+import org.jooq.impl.DSL;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Map;
+
 public class JooqFieldTokenMatcherTest {
 
     @Test
@@ -18,4 +23,47 @@ public class JooqFieldTokenMatcherTest {
         assertArrayEquals(new String[]{"Hello", "Universe", "Q"}, tokenizer.tokenize("HelloUniverseQ"));
         assertArrayEquals(new String[]{"up", "_1"}, tokenizer.tokenize("up_1"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void match_underscore_이름과_camelcase_이름의_토큰이_같으면_매칭된다() throws Exception {
+        assertTrue(JooqFieldTokenMatcher.match(DSL.field("clob_aaa_bbb333"), pojoField("clobAaaBbb333")));
+        assertTrue(JooqFieldTokenMatcher.match(DSL.field("CLOB_AAA_BBB333"), pojoField("clobAaaBbb333")));
+        assertTrue(JooqFieldTokenMatcher.match(DSL.field("integer11"), pojoField("integer11")));
+        assertFalse(JooqFieldTokenMatcher.match(DSL.field("integer_11"), pojoField("integer11")));
+        assertFalse(JooqFieldTokenMatcher.match(DSL.field("clobaaa_bbb333"), pojoField("clobAaaBbb333")));
+        assertFalse("underscore 토큰에는 `_`가 포함될 수 없다.", JooqFieldTokenMatcher.match(DSL.field("up__1"), pojoField("up_1")));
+    }
+
+    @Test
+    public void indexJooqFields_같은_key의_필드_위치를_순서대로_모은다() throws Exception {
+        // given
+        final org.jooq.Field<?>[] jooqFields = {DSL.field("id"), DSL.field("varchar"), DSL.field("ID")};
+
+        // when
+        final Map<String, int[]> index = JooqFieldTokenMatcher.indexJooqFields(jooqFields);
+
+        // then
+        assertArrayEquals(new int[]{0, 2}, JooqFieldTokenMatcher.matchingIndexes(index, pojoField("id")));
+        assertArrayEquals(new int[]{1}, JooqFieldTokenMatcher.matchingIndexes(index, pojoField("varchar")));
+        assertArrayEquals(new int[0], JooqFieldTokenMatcher.matchingIndexes(index, pojoField("long22")));
+        assertEquals(
+                Arrays.asList(DummyPojo.class.getDeclaredField("clobAaaBbb333")),
+                JooqFieldTokenMatcher.matchingFields(
+                        JooqFieldTokenMatcher.indexPojoFields(Arrays.asList(DummyPojo.class.getDeclaredFields())),
+                        DSL.field("clob_aaa_bbb333")));
+    }
+
+    private static Field pojoField(String name) throws NoSuchFieldException {
+        return Holder.class.getDeclaredField(name);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Holder {
+        Long id;
+        String varchar;
+        String clobAaaBbb333;
+        Integer integer11;
+        Long long22;
+        Integer up_1;
+    }
+}
@@ -0,0 +1,32 @@
+package codehumane.jooq;
+
+import codehumane.common.Identifiable;
+import codehumane.common.YNBoolean;
+
+import java.util.Date;
+
+/**
+ * 컴파일 시점에 변환기(JooqMappedPojo_JooqMapper)를 생성하는 더미 객체<br/>
+ * 생성된 코드가 접근할 수 있어야 하므로 lombok 대신 필드를 private이 아닌 접근자로 선언
+ */
+@JooqMapped(table = DummyJooqTable.class)
+class JooqMappedPojo implements Identifiable<Long> {
+
+    Long id;
+    String varchar;
+    int integer11;
+    DummyPojo.VarcharEnum varcharEnum;
+    DummyPojo.ByteEnum tinyintEnum;
+    Date timestamp;
+    YNBoolean jooqEnum;
+
+    @Override
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,94 @@
+package codehumane.jooq;
+
+import codehumane.common.Identifiable;
+import lombok.Getter;
+import lombok.Setter;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+@RunWith(SpringRunner.class)
+@Import(JooqTestConfig.class)
+public class JooqMappingWarmUpTest {
+
+    @Autowired
+    private DSLContext dslContext;
+
+    @Test
+    public void run_등록한_쌍과_JooqMapped_쌍과_이름이_같은_쌍의_변환_계획을_미리_생성한다() throws Exception {
+        // given
+        final CachedJooqRecordToPojoMapper readMapper = new CachedJooqRecordToPojoMapper();
+        final JooqMappingWarmUp warmUp = new JooqMappingWarmUp(
+                dslContext, readMapper, new JooqRecordUnmapper(dslContext), "codehumane.jooq")
+                .register(DummyPojo.class, DummyJooqTable.DUMMY_JOOQ_TABLE)
+                .parallel(true);
+
+        // when
+        final JooqMappingWarmUp.Report report = warmUp.run();
+
+        // then
+        final Map<Class<?>, JooqMappingWarmUp.Pairing> pairings = report.getPairings().stream()
+                .collect(Collectors.toMap(JooqMappingWarmUp.Pairing::getPojoType, Function.identity()));
+        assertTrue(report.getFailures().isEmpty());
+        // 같은 패키지의 다른 테스트용 Pojo와 테이블도 함께 찾아지므로, 이 테스트가 다루는 쌍만 검증
+        assertFalse(report.getUnpairedTables().contains(DummyJooqTable.DUMMY_JOOQ_TABLE));
+
+        final JooqMappingWarmUp.Pairing registered = pairings.get(DummyPojo.class);
+        assertEquals("table_for_jooq_test", registered.getTableName());
+        assertEquals(Collections.emptyList(), registered.getUnmatchedFields());
+        assertEquals(Arrays.asList("creator", "modifier", "create_date", "last_modified_date"),
+                registered.getUnmatchedColumns());
+
+        final JooqMappingWarmUp.Pairing named = pairings.get(TableForJooqTest.class);
+        assertEquals("table_for_jooq_test", named.getTableName());
+        assertEquals(Collections.singletonList("notInTable"), named.getUnmatchedFields());
+
+        final JooqMappingWarmUp.Pairing annotated = pairings.get(JooqMappedPojo.class);
+        assertEquals("table_for_jooq_test", annotated.getTableName());
+
+        // 실제 조회는 미리 만든 계획을 사용
+        final long misses = readMapper.getCacheStats().getMissCount();
+        readMapper.map(dslContext.newRecord(DummyJooqTable.DUMMY_JOOQ_TABLE), DummyPojo.class);
+        assertEquals(misses, readMapper.getCacheStats().getMissCount());
+    }
+
+    @Test
+    public void run_등록한_JooqBatchWriter의_쓰기_계획도_미리_생성한다() throws Exception {
+        // given (JooqBatchWriter는 쓰기 계획을 인스턴스마다 보관)
+        final JooqPojoToRecordMapper writerMapper = new JooqPojoToRecordMapper();
+        final JooqBatchWriter batchWriter = new JooqBatchWriter(dslContext, writerMapper, 10, false);
+        final JooqMappingWarmUp warmUp = new JooqMappingWarmUp(
+                dslContext, new CachedJooqRecordToPojoMapper(), null, "codehumane.jooq")
+                .register(DummyPojo.class, DummyJooqTable.DUMMY_JOOQ_TABLE)
+                .batchWriter(batchWriter);
+        final Record record = dslContext.newRecord(DummyJooqTable.DUMMY_JOOQ_TABLE);
+        assertNull(writerMapper.findPlan(DummyPojo.class, record));
+
+        // when
+        final JooqMappingWarmUp.Report report = warmUp.run();
+
+        // then
+        assertTrue(report.getFailures().isEmpty());
+        assertNotNull(writerMapper.findPlan(DummyPojo.class, record));
+    }
+
+    @Getter
+    @Setter
+    static class TableForJooqTest implements Identifiable<Integer> {
+        Integer id;
+        String varchar;
+        String notInTable;
+    }
+}
@@ -9,6 +9,9 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(SpringRunner.class)
 @Import(JooqTestConfig.class)
@@ -83,4 +86,75 @@ public class JooqPojoToRecordMapperTest {
         // then
         assertEquals(dummyPojo.jooqEnum.getCode(), record.getJooqEnum().getLiteral());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void map_값이_null인_필드도_changed_상태로_할당하고_같은_계획을_다음_Record에도_사용한다() throws Exception {
+
+        // given
+        final DummyJooqTableRecord first = dslContext.newRecord(DummyJooqTable.DUMMY_JOOQ_TABLE);
+        final DummyJooqTableRecord second = dslContext.newRecord(DummyJooqTable.DUMMY_JOOQ_TABLE);
+        final DummyPojo dummyPojo = new DummyPojo();
+        dummyPojo.varchar = "바차";
+
+        // when
+        mapper.map(dummyPojo, first);
+        dummyPojo.varchar = null;
+        mapper.map(dummyPojo, second);
+
+        // then
+        assertEquals("바차", first.getVarchar());
+        assertNull(second.getVarchar());
+        assertTrue(second.changed(DummyJooqTable.DUMMY_JOOQ_TABLE.VARCHAR));
+    }
+
+    @Test
+    public void map_변환_직후_값이_기록된_Pojo는_달라진_필드만_할당한다() throws Exception {
+
+        // given
+        final PojoSnapshots snapshots = new PojoSnapshots();
+        final JooqRecordToPojoMapper recordingMapper = new SnapshotRecordingJooqRecordToPojoMapper(
+                new CachedJooqRecordToPojoMapper(), snapshots);
+
+        final DummyJooqTableRecord fetched = dslContext.newRecord(DummyJooqTable.DUMMY_JOOQ_TABLE);
+        fetched.setClobAaaBbb333("클롭");
+        fetched.setVarchar("바차");
+        fetched.setInteger11(3);
+        final DummyPojo dummyPojo = recordingMapper.map(fetched, DummyPojo.class);
+
+        // given
+        dummyPojo.varchar = "바뀐 바차";
+        dummyPojo.integer11 = null;
+        final DummyJooqTableRecord record = dslContext.newRecord(DummyJooqTable.DUMMY_JOOQ_TABLE);
+
+        // when
+        new JooqPojoToRecordMapper(FieldMappers.defaults(), snapshots).map(dummyPojo, record);
+
+        // then
+        assertEquals("바뀐 바차", record.getVarchar());
+        assertTrue(record.changed(DummyJooqTable.DUMMY_JOOQ_TABLE.VARCHAR));
+        assertNull("null로 바뀐 값도 할당되어야 한다.", record.getInteger11());
+        assertTrue(record.changed(DummyJooqTable.DUMMY_JOOQ_TABLE.INTEGER11));
+        assertFalse(record.changed(DummyJooqTable.DUMMY_JOOQ_TABLE.CLOB_AAA_BBB333));
+        assertFalse(record.changed(DummyJooqTable.DUMMY_JOOQ_TABLE.TINYINT));
+    }
+
+    @Test
+    public void newRecord_JooqRecordUnmapper로_Encodable을_포함한_새_Record를_만든다() throws Exception {
+
+        // given
+        final DummyPojo dummyPojo = new DummyPojo();
+        dummyPojo.varchar = "바차";
+        dummyPojo.varcharEnum = DummyPojo.VarcharEnum.TYPE_B;
+        dummyPojo.jooqEnum = YNBoolean.Y;
+
+        // when
+        final DummyJooqTableRecord record = new JooqRecordUnmapper(dslContext)
+                .newRecord(DummyJooqTable.DUMMY_JOOQ_TABLE, dummyPojo);
+
+        // then
+        assertEquals("바차", record.getVarchar());
+        assertEquals(DummyPojo.VarcharEnum.TYPE_B.getCode(), record.getVarcharEnum());
+        assertEquals(DummyJooqEnum.Y, record.getJooqEnum());
+        assertTrue(record.changed(DummyJooqTable.DUMMY_JOOQ_TABLE.CLOB_AAA_BBB333));
+    }
+}
@@ -1,8 +1,18 @@
 package codehumane.jooq;
 
+import codehumane.common.Identifiable;
 import codehumane.common.YNBoolean;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.TableField;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -11,14 +21,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import java.sql.ResultSet;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.AdditionalAnswers.delegatesTo;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 @RunWith(SpringRunner.class)
 @Import(JooqTestConfig.class)
@@ -30,6 +51,9 @@ public class JooqRecordToPojoMapperTest<T extends JooqRecordToPojoMapper> {
     @Autowired
     private JooqRecordToPojoMapper mapper;
 
+    @Autowired
+    private DSLContext dslContext;
+
     private DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
 
     @Before
@@ -66,6 +90,559 @@ public class JooqRecordToPojoMapperTest<T extends JooqRecordToPojoMapper> {
         assertEquals("timestamp는 Date로 변환될 수 있어야 한다.", dateFormat.parse("2016-12-26 17:17:32"), mapped.timestamp);
     }
 
+    @Test
+    public void map_캐시된_변환_계획으로도_동일하게_변환된다() throws Exception {
+        // given
+        jooqDataFixture.insertRecord();
+        final CachedJooqRecordToPojoMapper cachedMapper = new CachedJooqRecordToPojoMapper();
+
+        // when
+        final DummyPojo first = cachedMapper.map(jooqDataFixture.selectLastInsertedRecord(), DummyPojo.class);
+        final DummyPojo second = cachedMapper.map(jooqDataFixture.selectLastInsertedRecord(), DummyPojo.class);
+
+        // then
+        for (DummyPojo mapped : Arrays.asList(first, second)) {
+            assertEquals(Long.valueOf(1004), mapped.getId());
+            assertEquals("하하하하하하하", mapped.varchar);
+            assertEquals(Byte.valueOf("3"), mapped.tinyint);
+            assertEquals(Double.valueOf("3333333333333333333"), mapped.double321);
+            assertEquals(DummyPojo.VarcharEnum.TYPE_A, mapped.varcharEnum);
+            assertEquals(DummyPojo.ByteEnum.Y, mapped.tinyintEnum);
+            assertEquals(DummyPojo.IntegerEnum.N, mapped.integerEnum);
+            assertEquals(dateFormat.parse("2016-12-26 17:17:32"), mapped.timestamp);
+        }
+    }
+
+    @Test
+    public void map_캐시_크기를_넘으면_오래_사용하지_않은_변환_계획부터_제거한다() throws Exception {
+        // given
+        jooqDataFixture.insertRecord();
+        final CachedJooqRecordToPojoMapper cachedMapper = new CachedJooqRecordToPojoMapper(FieldMappers.defaults(), 1);
+
+        // when
+        cachedMapper.map(jooqDataFixture.selectLastInsertedRecord(), DummyPojo.class);
+        cachedMapper.map(jooqDataFixture.selectLastInsertedRecord(), DummyPojo.class);
+        final DummyPojo projected = cachedMapper.map(jooqDataFixture.selectLastInsertedRecord(true), DummyPojo.class);
+        final DummyPojo remapped = cachedMapper.map(jooqDataFixture.selectLastInsertedRecord(), DummyPojo.class);
+
+        // then
+        final CachedJooqRecordToPojoMapper.CacheStats stats = cachedMapper.getCacheStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(3, stats.getMissCount());
+        assertEquals(2, stats.getEvictionCount());
+        assertEquals(1, stats.getSize());
+        assertEquals(DummyPojo.VarcharEnum.TYPE_A, projected.varcharEnum);
+        assertEquals("하하하하하하하", remapped.varchar);
+    }
+
+    @Test
+    public void map_기본_생성자가_없는_불변_객체는_생성자_파라미터로_변환한다() throws Exception {
+        // given
+        jooqDataFixture.insertRecord();
+        final CachedJooqRecordToPojoMapper cachedMapper = new CachedJooqRecordToPojoMapper();
+
+        // when
+        final ImmutablePojo mapped = cachedMapper.map(jooqDataFixture.selectLastInsertedRecord(), ImmutablePojo.class);
+        final ImmutablePojo projected = cachedMapper.map(jooqDataFixture.selectLastInsertedRecord(true), ImmutablePojo.class);
+
+        // then
+        assertEquals(Long.valueOf(1004), mapped.getId());
+        assertEquals("하하하하하하하", mapped.getVarchar());
+        assertEquals(DummyPojo.VarcharEnum.TYPE_A, mapped.getVarcharEnum());
+        assertEquals(3333333, mapped.getInteger11());
+        assertEquals("매칭되는 필드가 없는 primitive 파라미터는 기본값을 사용한다.", 0, projected.getInteger11());
+        assertEquals(null, projected.getVarchar());
+    }
+
+    @Test
+    public void map_접두어가_붙은_필드는_중첩_객체로_변환한다() throws Exception {
+        // given
+        final Record record = DSL.using(SQLDialect.H2).newRecord(
+                DSL.field("id", Integer.class), DSL.field("varchar", String.class),
+                DSL.field("writer_id", Long.class), DSL.field("writer_name", String.class));
+        record.set(DSL.field("id", Integer.class), 1004);
+        record.set(DSL.field("varchar", String.class), "하하하하하하하");
+        record.set(DSL.field("writer_id", Long.class), 7L);
+        record.set(DSL.field("writer_name", String.class), "작성자");
+
+        // when
+        final PojoWithWriter mapped = new CachedJooqRecordToPojoMapper().map(record, PojoWithWriter.class);
+
+        // then
+        assertEquals(Long.valueOf(1004), mapped.id);
+        assertEquals("하하하하하하하", mapped.varchar);
+        assertNotNull(mapped.writer);
+        assertEquals(Long.valueOf(7), mapped.writer.id);
+        assertEquals("작성자", mapped.writer.name);
+    }
+
+    @Test
+    public void map_join한_테이블의_필드는_테이블_이름과_같은_중첩_객체로_변환한다() throws Exception {
+        // given
+        final DummyJooqTable dummy = DummyJooqTable.DUMMY_JOOQ_TABLE;
+        final Record record = DSL.using(SQLDialect.H2)
+                .newRecord(dummy.ID, dummy.VARCHAR, WriterTable.WRITER.ID, WriterTable.WRITER.NAME);
+        record.set(dummy.ID, 1004);
+        record.set(dummy.VARCHAR, "하하하하하하하");
+        record.set(WriterTable.WRITER.ID, 7L);
+        record.set(WriterTable.WRITER.NAME, "작성자");
+
+        // when
+        final PojoWithWriter mapped = new CachedJooqRecordToPojoMapper().map(record, PojoWithWriter.class);
+
+        // then
+        assertEquals("중첩 객체 테이블의 id가 부모의 id를 덮어쓰지 않는다.", Long.valueOf(1004), mapped.id);
+        assertEquals("하하하하하하하", mapped.varchar);
+        assertEquals(Long.valueOf(7), mapped.writer.id);
+        assertEquals("작성자", mapped.writer.name);
+    }
+
+    @Test
+    public void map_필드_이름이_같아도_테이블이_다르면_다른_변환_계획을_사용한다() throws Exception {
+        // given
+        final CachedJooqRecordToPojoMapper cachedMapper = new CachedJooqRecordToPojoMapper();
+        final Record unqualified = DSL.using(SQLDialect.H2).newRecord(
+                DSL.field(DSL.name("id"), Integer.class), DSL.field(DSL.name("varchar"), String.class),
+                DSL.field(DSL.name("id"), Long.class), DSL.field(DSL.name("name"), String.class));
+        unqualified.fromArray(1004, "하하하하하하하", 7L, "작성자");
+
+        final DummyJooqTable dummy = DummyJooqTable.DUMMY_JOOQ_TABLE;
+        final Record joined = DSL.using(SQLDialect.H2)
+                .newRecord(dummy.ID, dummy.VARCHAR, WriterTable.WRITER.ID, WriterTable.WRITER.NAME);
+        joined.fromArray(1004, "하하하하하하하", 7L, "작성자");
+
+        // when
+        final PojoWithWriter first = cachedMapper.map(unqualified, PojoWithWriter.class);
+        final PojoWithWriter second = cachedMapper.map(joined, PojoWithWriter.class);
+
+        // then
+        assertEquals("테이블 구분이 없으면 같은 이름의 마지막 필드를 사용한다.", Long.valueOf(7), first.id);
+        assertEquals(Long.valueOf(1004), second.id);
+        assertEquals(Long.valueOf(7), second.writer.id);
+        assertEquals("작성자", second.writer.name);
+    }
+
+    @Test
+    public void map_중첩_객체의_필드_값이_모두_null이면_중첩_객체를_생성하지_않는다() throws Exception {
+        // given
+        final Record record = DSL.using(SQLDialect.H2).newRecord(
+                DSL.field("id", Integer.class), DSL.field("writer_id", Long.class), DSL.field("writer_name", String.class));
+        record.set(DSL.field("id", Integer.class), 1004);
+
+        // when
+        final PojoWithWriter mapped = new CachedJooqRecordToPojoMapper().map(record, PojoWithWriter.class);
+
+        // then
+        assertEquals(Long.valueOf(1004), mapped.id);
+        assertEquals("LEFT JOIN으로 매칭되는 행이 없는 경우", null, mapped.writer);
+    }
+
+    @Test
+    public void fetch_Record를_만들지_않고_ResultSet에서_바로_변환한_결과는_Record_변환_결과와_같다() throws Exception {
+        // given
+        jooqDataFixture.insertRecord(1);
+        jooqDataFixture.insertRecord(2);
+        final CachedJooqRecordToPojoMapper cachedMapper = new CachedJooqRecordToPojoMapper();
+
+        // when
+        final List<DummyPojo> direct = cachedMapper.fetch(jooqDataFixture.selectAllRecordsQuery(), DummyPojo.class);
+        final List<DummyPojo> expected = cachedMapper.mapAll(jooqDataFixture.selectAllRecords(), DummyPojo.class);
+
+        // then
+        assertEquals(2, direct.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).id, direct.get(i).id);
+            assertEquals(expected.get(i).clobAaaBbb333, direct.get(i).clobAaaBbb333);
+            assertEquals(expected.get(i).varchar, direct.get(i).varchar);
+            assertEquals(expected.get(i).tinyint, direct.get(i).tinyint);
+            assertEquals(expected.get(i).smallint, direct.get(i).smallint);
+            assertEquals(expected.get(i).integer11, direct.get(i).integer11);
+            assertEquals(expected.get(i).long22, direct.get(i).long22);
+            assertEquals(expected.get(i).double321, direct.get(i).double321);
+            assertEquals(expected.get(i).varcharEnum, direct.get(i).varcharEnum);
+            assertEquals(expected.get(i).tinyintEnum, direct.get(i).tinyintEnum);
+            assertEquals(expected.get(i).integerEnum, direct.get(i).integerEnum);
+            assertEquals(expected.get(i).timestamp, direct.get(i).timestamp);
+        }
+    }
+
+    @Test
+    public void fetch_bigint를_double로_변환할_때도_Record_변환과_같이_손실을_검사한다() throws Exception {
+        // given (2^53은 double로 정확히 표현되지만 2^53 + 1은 표현되지 않음)
+        jooqDataFixture.insertRecord(1);
+        jooqDataFixture.insertRecord(2);
+        dslContext.execute("update table_for_jooq_test set long22 = 9007199254740992 where id = 1");
+        dslContext.execute("update table_for_jooq_test set long22 = 9007199254740993 where id = 2");
+        final CachedJooqRecordToPojoMapper cachedMapper = new CachedJooqRecordToPojoMapper();
+        final ResultQuery<Record> exact = dslContext.resultQuery("select id, long22 from table_for_jooq_test where id = 1");
+        final ResultQuery<Record> lossy = dslContext.resultQuery("select id, long22 from table_for_jooq_test where id = 2");
+
+        // when
+        final List<PojoForDoubleLong22> direct = cachedMapper.fetch(exact, PojoForDoubleLong22.class);
+        final List<PojoForDoubleLong22> expected = cachedMapper.mapAll(exact.fetch(), PojoForDoubleLong22.class);
+
+        // then
+        assertEquals(expected.get(0).long22, direct.get(0).long22, 0);
+        assertEquals(9007199254740992d, direct.get(0).long22, 0);
+        assertMappingFails(() -> cachedMapper.fetch(lossy, PojoForDoubleLong22.class));
+        assertMappingFails(() -> cachedMapper.mapAll(lossy.fetch(), PojoForDoubleLong22.class));
+    }
+
+    private static void assertMappingFails(Runnable mapping) {
+        try {
+            mapping.run();
+            fail("변환이 실패해야 한다.");
+        } catch (JooqRecordMappingException expected) {
+            // 손실이 있는 변환은 예외
+        }
+    }
+
+    @Test
+    public void stream_ResultSet을_순회하며_변환하고_스트림을_닫으면_ResultSet도_닫힌다() throws Exception {
+        // given
+        jooqDataFixture.insertRecord(1);
+        jooqDataFixture.insertRecord(2);
+        // Jooq의 ResultSet은 닫힌 뒤 isClosed() 호출 시 NPE가 발생하므로, 위임 mock으로 감싸 close 호출 여부를 확인
+        final ResultSet jooqResultSet = jooqDataFixture.selectAllRecordsQuery().fetchResultSet();
+        final ResultSet resultSet = mock(ResultSet.class, delegatesTo(jooqResultSet));
+
+        // when
+        final List<ImmutablePojo> mapped;
+        try (Stream<ImmutablePojo> stream = new CachedJooqRecordToPojoMapper().stream(resultSet, ImmutablePojo.class)) {
+            mapped = stream.collect(Collectors.toList());
+        }
+
+        // then
+        assertEquals(Arrays.asList(1L, 2L), mapped.stream().map(ImmutablePojo::getId).collect(Collectors.toList()));
+        assertEquals(DummyPojo.VarcharEnum.TYPE_A, mapped.get(0).getVarcharEnum());
+        assertEquals(3333333, mapped.get(1).getInteger11());
+        verify(resultSet).close();
+    }
+
+    @Test
+    public void mapAllGrouped_1대N_join_결과를_부모_id로_묶어_부모는_한_번만_생성한다() throws Exception {
+        // given
+        final Result<Record> records = writerJoinResult(
+                writerJoinRecord(1, "부모1", 10L, "작성자10"),
+                writerJoinRecord(2, "부모2", 20L, "작성자20"),
+                writerJoinRecord(1, "부모1", 11L, "작성자11"),
+                writerJoinRecord(3, "부모3", null, null));
+
+        // when
+        final List<PojoWithWriters> mapped = new CachedJooqRecordToPojoMapper()
+                .mapAllGrouped(records, PojoWithWriters.class, "writers");
+
+        // then
+        assertEquals(Arrays.asList(1L, 2L, 3L), mapped.stream().map(PojoWithWriters::getId).collect(Collectors.toList()));
+        assertEquals("부모1", mapped.get(0).getVarchar());
+        assertEquals(Arrays.asList(10L, 11L),
+                mapped.get(0).getWriters().stream().map(writer -> writer.id).collect(Collectors.toList()));
+        assertEquals("작성자11", mapped.get(0).getWriters().get(1).name);
+        assertEquals(1, mapped.get(1).getWriters().size());
+        assertEquals("자식이 없는 부모는 빈 컬렉션을 가진다.", Collections.emptyList(), mapped.get(2).getWriters());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void streamGrouped_부모_id로_정렬된_Cursor를_부모_단위로_묶어_변환한다() throws Exception {
+        // given
+        final Result<Record> records = writerJoinResult(
+                writerJoinRecord(1, "부모1", 10L, "작성자10"),
+                writerJoinRecord(1, "부모1", 11L, "작성자11"),
+                writerJoinRecord(2, "부모2", 20L, "작성자20"));
+        final Cursor<Record> cursor = mock(Cursor.class);
+        given(cursor.iterator()).willReturn(records.iterator());
+
+        // when
+        final List<PojoWithWriters> mapped;
+        try (Stream<PojoWithWriters> stream = new CachedJooqRecordToPojoMapper()
+                .streamGrouped(cursor, PojoWithWriters.class, "writers")) {
+            mapped = stream.collect(Collectors.toList());
+        }
+
+        // then
+        assertEquals(2, mapped.size());
+        assertEquals(2, mapped.get(0).getWriters().size());
+        assertEquals(Long.valueOf(20), mapped.get(1).getWriters().get(0).id);
+        verify(cursor).close();
+    }
+
+    @Test
+    public void mapAll_Result의_모든_Record를_순서대로_변환한다() throws Exception {
+        // given
+        jooqDataFixture.insertRecord();
+        jooqDataFixture.insertRecord();
+        final Result<Record> records = jooqDataFixture.selectAllRecords();
+
+        // when
+        final List<DummyPojo> mapped = mapper.mapAll(records, DummyPojo.class);
+        final List<DummyPojo> cachedMapped = new CachedJooqRecordToPojoMapper().mapAll(records, DummyPojo.class);
+
+        // then
+        assertEquals(2, mapped.size());
+        assertEquals(2, cachedMapped.size());
+        for (DummyPojo each : concat(mapped, cachedMapped)) {
+            assertEquals(Long.valueOf(1004), each.getId());
+            assertEquals("하하하하하하하", each.varchar);
+            assertEquals(DummyPojo.VarcharEnum.TYPE_A, each.varcharEnum);
+            assertEquals(DummyPojo.IntegerEnum.N, each.integerEnum);
+        }
+    }
+
+    @Test
+    public void mapAll_빈_Result는_빈_목록으로_변환한다() throws Exception {
+        // when
+        final List<DummyPojo> mapped = mapper.mapAll(jooqDataFixture.selectAllRecords(), DummyPojo.class);
+
+        // then
+        assertTrue(mapped.isEmpty());
+    }
+
+    @Test
+    public void mapAll_ForkJoinPool에서_병렬로_변환해도_순서를_유지한다() throws Exception {
+        // given
+        final int size = 2000;
+        for (long id = 1; id <= size; id++) {
+            jooqDataFixture.insertRecord(id);
+        }
+        final Result<Record> records = jooqDataFixture.selectAllRecords();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            // when
+            final List<DummyPojo> mapped = mapper.mapAll(records, DummyPojo.class, pool);
+            final List<DummyPojo> cachedMapped = new CachedJooqRecordToPojoMapper().mapAll(records, DummyPojo.class, pool);
+
+            // then
+            assertEquals(size, mapped.size());
+            assertEquals(size, cachedMapped.size());
+            for (int i = 0; i < size; i++) {
+                assertEquals(Long.valueOf(i + 1), mapped.get(i).getId());
+                assertEquals(Long.valueOf(i + 1), cachedMapped.get(i).getId());
+                assertEquals(DummyPojo.VarcharEnum.TYPE_A, cachedMapped.get(i).varcharEnum);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void mapAll_map만_구현한_변환기도_기본_구현으로_일괄_변환과_스트림_변환을_지원한다() throws Exception {
+        // given
+        jooqDataFixture.insertRecord(1);
+        jooqDataFixture.insertRecord(2);
+        final DefaultJooqRecordToPojoMapper delegate = new DefaultJooqRecordToPojoMapper();
+        final JooqRecordToPojoMapper mapOnly = new JooqRecordToPojoMapper() {
+
+            @Override
+            public <D, R extends Record> D map(R record, Class<D> destinationType) {
+                return delegate.map(record, destinationType);
+            }
+
+            @Override
+            public <D, R extends Record> D map(R record, D destination) {
+                return delegate.map(record, destination);
+            }
+        };
+        final ForkJoinPool pool = new ForkJoinPool(2);
+
+        try {
+            // when
+            final List<DummyPojo> mapped = mapOnly.mapAll(jooqDataFixture.selectAllRecords(), DummyPojo.class);
+            final List<DummyPojo> parallelMapped = mapOnly.mapAll(jooqDataFixture.selectAllRecords(), DummyPojo.class, pool);
+            final List<DummyPojo> streamed;
+            try (Stream<DummyPojo> stream = mapOnly.stream(jooqDataFixture.selectAllRecordsLazily(), DummyPojo.class)) {
+                streamed = stream.collect(Collectors.toList());
+            }
+
+            // then
+            for (List<DummyPojo> each : Arrays.asList(mapped, parallelMapped, streamed)) {
+                assertEquals(Arrays.asList(1L, 2L), each.stream().map(DummyPojo::getId).collect(Collectors.toList()));
+                assertEquals(DummyPojo.VarcharEnum.TYPE_A, each.get(0).varcharEnum);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void stream_Cursor를_순회하며_변환하고_스트림을_닫으면_커서도_닫힌다() throws Exception {
+        // given
+        jooqDataFixture.insertRecord(1);
+        jooqDataFixture.insertRecord(2);
+        jooqDataFixture.insertRecord(3);
+        final Cursor<Record> cursor = jooqDataFixture.selectAllRecordsLazily();
+
+        // when (끝까지 읽은 커서는 Jooq가 스스로 닫으므로, 일부만 읽고 스트림을 닫음)
+        final List<DummyPojo> mapped;
+        final boolean closedBeforeStreamClose;
+        try (Stream<DummyPojo> stream = mapper.stream(cursor, DummyPojo.class)) {
+            mapped = stream.limit(1).collect(Collectors.toList());
+            closedBeforeStreamClose = cursor.isClosed();
+        }
+
+        // then
+        assertEquals(1, mapped.size());
+        assertEquals(Long.valueOf(1), mapped.get(0).getId());
+        assertEquals(DummyPojo.ByteEnum.Y, mapped.get(0).tinyintEnum);
+        assertFalse(closedBeforeStreamClose);
+        assertTrue(cursor.isClosed());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void streamReusing_하나의_객체에_행마다_덮어쓰고_null인_필드와_중첩_객체는_되돌린다() throws Exception {
+        // given
+        final Result<Record> records = writerJoinResult(
+                writerJoinRecord(1, "첫째", 10L, "작성자10"),
+                writerJoinRecord(2, null, null, null),
+                writerJoinRecord(3, "셋째", 30L, "작성자30"));
+        final Cursor<Record> cursor = mock(Cursor.class);
+        given(cursor.iterator()).willReturn(records.iterator());
+
+        // when
+        final Set<PojoWithWriter> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<String> snapshots;
+        try (Stream<PojoWithWriter> stream = new CachedJooqRecordToPojoMapper()
+                .streamReusing(cursor, PojoWithWriter.class)) {
+            snapshots = stream
+                    .peek(instances::add)
+                    .map(pojo -> pojo.id + ":" + pojo.varchar + ":" + (pojo.writer == null ? null : pojo.writer.name))
+                    .collect(Collectors.toList());
+        }
+
+        // then
+        assertEquals(1, instances.size());
+        assertEquals(Arrays.asList("1:첫째:작성자10", "2:null:null", "3:셋째:작성자30"), snapshots);
+        verify(cursor).close();
+    }
+
+    @Test
+    public void streamReusing_ringSize만큼의_객체를_돌아가며_재사용한다() throws Exception {
+        // given
+        jooqDataFixture.insertRecord(1);
+        jooqDataFixture.insertRecord(2);
+        jooqDataFixture.insertRecord(3);
+        final Cursor<Record> cursor = jooqDataFixture.selectAllRecordsLazily();
+
+        // when
+        final List<DummyPojo> mapped;
+        try (Stream<DummyPojo> stream = new CachedJooqRecordToPojoMapper().streamReusing(cursor, DummyPojo.class, 2)) {
+            mapped = stream.collect(Collectors.toList());
+        }
+
+        // then
+        assertSame(mapped.get(0), mapped.get(2));
+        assertNotSame(mapped.get(0), mapped.get(1));
+        assertEquals(Long.valueOf(3), mapped.get(0).getId());
+        assertEquals(Long.valueOf(2), mapped.get(1).getId());
+        assertTrue(cursor.isClosed());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void streamReusing_중첩_객체도_연속된_행에서_새로_만들지_않고_덮어쓴다() throws Exception {
+        // given
+        final Result<Record> records = writerJoinResult(
+                writerJoinRecord(1, "첫째", 10L, "작성자10"),
+                writerJoinRecord(2, "둘째", 20L, "작성자20"),
+                writerJoinRecord(3, "셋째", 30L, null));
+        final Cursor<Record> cursor = mock(Cursor.class);
+        given(cursor.iterator()).willReturn(records.iterator());
+
+        // when
+        final Set<WriterPojo> writers = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<String> snapshots;
+        try (Stream<PojoWithWriter> stream = new CachedJooqRecordToPojoMapper()
+                .streamReusing(cursor, PojoWithWriter.class)) {
+            snapshots = stream
+                    .peek(pojo -> writers.add(pojo.writer))
+                    .map(pojo -> pojo.id + ":" + pojo.writer.id + ":" + pojo.writer.name)
+                    .collect(Collectors.toList());
+        }
+
+        // then
+        assertEquals(1, writers.size());
+        assertEquals(Arrays.asList("1:10:작성자10", "2:20:작성자20", "3:30:null"), snapshots);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void streamReusing_null인_값은_처음_생성한_객체에서도_필드_초기값이_아닌_기본값으로_할당한다() throws Exception {
+        // given
+        final Result<Record> records = DSL.using(SQLDialect.H2).newResult(new Field<?>[]{
+                DummyJooqTable.DUMMY_JOOQ_TABLE.ID, DummyJooqTable.DUMMY_JOOQ_TABLE.INTEGER11, DummyJooqTable.DUMMY_JOOQ_TABLE.VARCHAR});
+        records.add(initializedPojoRecord(1, null, null));
+        records.add(initializedPojoRecord(2, 5, "값"));
+        records.add(initializedPojoRecord(3, null, null));
+        records.add(initializedPojoRecord(4, null, null));
+        final Cursor<Record> cursor = mock(Cursor.class);
+        given(cursor.iterator()).willReturn(records.iterator());
+
+        // when (처음 ringSize개의 행은 객체를 생성하고, 이후 행은 덮어씀)
+        final List<String> snapshots;
+        try (Stream<InitializedPojo> stream = new CachedJooqRecordToPojoMapper()
+                .streamReusing(cursor, InitializedPojo.class, 2)) {
+            snapshots = stream
+                    .map(pojo -> pojo.id + ":" + pojo.integer11 + ":" + pojo.varchar)
+                    .collect(Collectors.toList());
+        }
+
+        // then
+        assertEquals(Arrays.asList("1:0:null", "2:5:값", "3:0:null", "4:0:null"), snapshots);
+    }
+
+    @Test
+    public void into_Jooq의_into_호출도_Encodable을_포함하여_변환한다() throws Exception {
+        // given
+        jooqDataFixture.insertRecord(1);
+        jooqDataFixture.insertRecord(2);
+
+        // when
+        final List<DummyPojo> mapped = jooqDataFixture.selectAllRecords().into(DummyPojo.class);
+
+        // then
+        assertEquals(Arrays.asList(1L, 2L), mapped.stream().map(DummyPojo::getId).collect(Collectors.toList()));
+        assertEquals(DummyPojo.VarcharEnum.TYPE_A, mapped.get(0).varcharEnum);
+        assertEquals(DummyPojo.ByteEnum.Y, mapped.get(1).tinyintEnum);
+    }
+
+    @Test
+    public void into_Jooq의_Record_타입으로의_into_호출은_Jooq의_기본_변환기에_맡긴다() throws Exception {
+        // given
+        final DummyJooqTable dummy = DummyJooqTable.DUMMY_JOOQ_TABLE;
+        final Record record = dslContext.newRecord(dummy.ID, dummy.VARCHAR);
+        record.set(dummy.ID, 5);
+        record.set(dummy.VARCHAR, "바차");
+
+        // when
+        final DummyJooqTableRecord mapped = record.into(DummyJooqTableRecord.class);
+
+        // then
+        assertEquals(Integer.valueOf(5), mapped.getId());
+        assertEquals("바차", mapped.getVarchar());
+    }
+
+    @Test
+    public void map_사용자_정의_FieldMapper를_기본_변환기보다_먼저_사용한다() throws Exception {
+        // given
+        jooqDataFixture.insertRecord();
+        final Record record = jooqDataFixture.selectLastInsertedRecord();
+        final FieldMappers fieldMappers = new FieldMappers(new VarcharWrapperFieldMapper());
+
+        // when
+        final PojoForCustomFieldMapper mapped = new DefaultJooqRecordToPojoMapper(fieldMappers)
+                .map(record, PojoForCustomFieldMapper.class);
+        final PojoForCustomFieldMapper cachedMapped = new CachedJooqRecordToPojoMapper(fieldMappers)
+                .map(record, PojoForCustomFieldMapper.class);
+
+        // then
+        assertEquals("하하하하하하하", mapped.varchar.value);
+        assertEquals("하하하하하하하", cachedMapped.varchar.value);
+        assertEquals(Long.valueOf(1004), cachedMapped.id);
+        assertTrue(fieldMappers.find(String.class, VarcharWrapper.class) instanceof VarcharWrapperFieldMapper);
+    }
+
     @Test
     public void map_jooq의_EnumType_구현체에_대해서도_변환_가능하다() throws Exception {
         // given
@@ -84,6 +661,40 @@ public class JooqRecordToPojoMapperTest<T extends JooqRecordToPojoMapper> {
         assertEquals(YNBoolean.N, mapped.jooqEnum);
     }
 
+    private static <T> List<T> concat(List<T> first, List<T> second) {
+        final List<T> concatenated = new ArrayList<>(first);
+        concatenated.addAll(second);
+        return concatenated;
+    }
+
+    private static Result<Record> writerJoinResult(Record... records) {
+        final DummyJooqTable dummy = DummyJooqTable.DUMMY_JOOQ_TABLE;
+        final Result<Record> result = DSL.using(SQLDialect.H2)
+                .newResult(new Field<?>[]{dummy.ID, dummy.VARCHAR, WriterTable.WRITER.ID, WriterTable.WRITER.NAME});
+        result.addAll(Arrays.asList(records));
+        return result;
+    }
+
+    private static Record writerJoinRecord(int id, String varchar, Long writerId, String writerName) {
+        final DummyJooqTable dummy = DummyJooqTable.DUMMY_JOOQ_TABLE;
+        final Record record = DSL.using(SQLDialect.H2)
+                .newRecord(dummy.ID, dummy.VARCHAR, WriterTable.WRITER.ID, WriterTable.WRITER.NAME);
+        record.set(dummy.ID, id);
+        record.set(dummy.VARCHAR, varchar);
+        record.set(WriterTable.WRITER.ID, writerId);
+        record.set(WriterTable.WRITER.NAME, writerName);
+        return record;
+    }
+
+    private static Record initializedPojoRecord(int id, Integer integer11, String varchar) {
+        final DummyJooqTable dummy = DummyJooqTable.DUMMY_JOOQ_TABLE;
+        final Record record = DSL.using(SQLDialect.H2).newRecord(dummy.ID, dummy.INTEGER11, dummy.VARCHAR);
+        record.set(dummy.ID, id);
+        record.set(dummy.INTEGER11, integer11);
+        record.set(dummy.VARCHAR, varchar);
+        return record;
+    }
+
     @SuppressWarnings("unchecked")
     private Record generateRecordForJooqEnum(Map<String, Object> expected) {
         final Record record = mock(Record.class);
@@ -93,6 +704,7 @@ public class JooqRecordToPojoMapperTest<T extends JooqRecordToPojoMapper> {
             final Field field = mock(Field.class);
             given(field.getName()).willReturn(name);
             given(record.get(field)).willReturn(value);
+            given(record.get(fields.size())).willReturn(value);
             fields.add(field);
         });
 
@@ -104,6 +716,99 @@ public class JooqRecordToPojoMapperTest<T extends JooqRecordToPojoMapper> {
     }
 
 
+    @lombok.Value
+    public static class ImmutablePojo {
+
+        Long id;
+        String varchar;
+        DummyPojo.VarcharEnum varcharEnum;
+        int integer11;
+    }
+
+    public static class PojoForDoubleLong22 {
+
+        Long id;
+        double long22;
+    }
+
+    public static class InitializedPojo {
+
+        Long id;
+        int integer11 = 7;
+        String varchar = "초기값";
+    }
+
+    public static class PojoForCustomFieldMapper {
+
+        Long id;
+        VarcharWrapper varchar;
+    }
+
+    public static class VarcharWrapper {
+
+        private final String value;
+
+        VarcharWrapper(String value) {
+            this.value = value;
+        }
+    }
+
+    private static class VarcharWrapperFieldMapper implements FieldMapper {
+
+        @Override
+        public boolean match(Class<?> sourceType, Class<?> destinationType) {
+            return sourceType == String.class && destinationType == VarcharWrapper.class;
+        }
+
+        @Override
+        public Object map(Object sourceValue, Class<?> destinationType) {
+            return new VarcharWrapper((String) sourceValue);
+        }
+    }
+
+    public static class PojoWithWriter {
+
+        Long id;
+        String varchar;
+        WriterPojo writer;
+    }
+
+    public static class WriterPojo {
+
+        Long id;
+        String name;
+    }
+
+    @lombok.Getter
+    @lombok.Setter
+    public static class PojoWithWriters implements Identifiable<Long> {
+
+        Long id;
+        String varchar;
+        List<Writer> writers;
+    }
+
+    public static class Writer {
+
+        Long id;
+        String name;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static class WriterTable extends TableImpl<Record> {
+
+        private static final long serialVersionUID = 1L;
+
+        static final WriterTable WRITER = new WriterTable();
+
+        final TableField<Record, Long> ID = createField("id", SQLDataType.BIGINT, this, "");
+        final TableField<Record, String> NAME = createField("name", SQLDataType.VARCHAR.length(32), this, "");
+
+        WriterTable() {
+            super("writer");
+        }
+    }
+
     public static class PojoForJooqEnum {
 
         PojoForJooqEnum() {
@@ -31,6 +31,7 @@ public class JooqTestConfig {
     public DefaultDSLContext dslContext(DataSource dataSource) {
         val configuration = new DefaultConfiguration();
         configuration.setDataSource(dataSource);
+        configuration.set(new JooqRecordMapperProvider());
         return new DefaultDSLContext(configuration);
     }
 
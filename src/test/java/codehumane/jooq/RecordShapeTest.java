@@ -0,0 +1,48 @@
+package codehumane.jooq;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.jooq.Record;
+import org.jooq.impl.DSL;
+import org.junit.Test;
+
+public class RecordShapeTest {
+
+    @Test
+    public void of_필드_이름과_순서가_같으면_다른_배열이어도_같은_형태다() throws Exception {
+        // given
+        final RecordShape shape = RecordShape.of(new org.jooq.Field<?>[]{DSL.field("id"), DSL.field("varchar")});
+        final RecordShape same = RecordShape.of(new org.jooq.Field<?>[]{DSL.field("id"), DSL.field("varchar")});
+        final RecordShape reordered = RecordShape.of(new org.jooq.Field<?>[]{DSL.field("varchar"), DSL.field("id")});
+
+        // then
+        assertEquals(shape, same);
+        assertEquals(shape.hashCode(), same.hashCode());
+        assertNotEquals(shape, reordered);
+    }
+
+    @Test
+    public void of_같은_필드_배열이면_직전_형태를_재사용한다() throws Exception {
+        // given
+        final org.jooq.Field<?>[] fields = {DSL.field("id"), DSL.field("varchar")};
+        final Record record = mock(Record.class);
+        when(record.fields()).thenReturn(fields);
+        final RecordShape recent = RecordShape.of(record, null);
+
+        // then
+        assertSame(recent, RecordShape.of(record, recent));
+        assertNotSame(recent, RecordShape.of(record, RecordShape.of(fields.clone())));
+    }
+
+    @Test
+    public void of_코드_생성된_TableRecord는_클래스마다_같은_형태를_사용한다() throws Exception {
+        // given
+        final RecordShape shape = RecordShape.of(new DummyJooqTableRecord(), null);
+
+        // then
+        assertSame(shape, RecordShape.of(new DummyJooqTableRecord(), null));
+        assertEquals(DummyJooqTable.DUMMY_JOOQ_TABLE.fields().length, shape.size());
+    }
+}